@@ -0,0 +1,104 @@
+package com.textris.model;
+
+import java.util.Arrays;
+
+/**
+ * A bounded ring of recent board snapshots for undo.
+ *
+ * Once the ring is full, recording a snapshot drops the oldest one. Since
+ * snapshots share unchanged columns with each other, keeping a few dozen of
+ * them costs little more than the columns that actually changed.
+ *
+ * Responsibilities:
+ * - Keeps the most recent snapshots, up to a fixed capacity
+ * - Hands them back newest first
+ *
+ * Collaborators:
+ * - BoardSnapshot
+ * - GameBoard
+ */
+public final class BoardHistory
+{
+    private final BoardSnapshot[] ring;
+    private int head; // slot the next snapshot goes into
+    private int size;
+
+    /**
+     * Creates an empty history.
+     *
+     * @param capacity the number of snapshots to keep
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public BoardHistory(int capacity)
+    {
+        if (capacity <= 0) throw new IllegalArgumentException("capacity must be positive");
+        ring = new BoardSnapshot[capacity];
+    }
+
+    /**
+     * Records a snapshot, dropping the oldest one if the ring is full.
+     *
+     * @param snapshot the snapshot to record
+     */
+    public void record(BoardSnapshot snapshot)
+    {
+        ring[head] = snapshot;
+        head = (head + 1) % ring.length;
+        if (size < ring.length) size++;
+    }
+
+    /**
+     * Removes and returns the most recent snapshot.
+     *
+     * @return the snapshot, or null if the history is empty
+     */
+    public BoardSnapshot undo()
+    {
+        if (size == 0) return null;
+        head = (head - 1 + ring.length) % ring.length;
+        BoardSnapshot snapshot = ring[head];
+        ring[head] = null;
+        size--;
+        return snapshot;
+    }
+
+    /**
+     * Returns the most recent snapshot without removing it.
+     *
+     * @return the snapshot, or null if the history is empty
+     */
+    public BoardSnapshot peek()
+    {
+        return size == 0 ? null : ring[(head - 1 + ring.length) % ring.length];
+    }
+
+    /**
+     * Returns the number of snapshots held.
+     *
+     * @return the count
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Returns the most snapshots the history keeps.
+     *
+     * @return the capacity
+     */
+    public int capacity()
+    {
+        return ring.length;
+    }
+
+    /**
+     * Drops every snapshot.
+     */
+    public void clear()
+    {
+        Arrays.fill(ring, null);
+        head = 0;
+        size = 0;
+    }
+}
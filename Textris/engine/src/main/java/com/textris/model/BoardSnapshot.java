@@ -0,0 +1,142 @@
+package com.textris.model;
+
+import java.util.BitSet;
+
+/**
+ * An immutable copy of a GameBoard's cells at one moment, for undo, replay
+ * and lookahead.
+ *
+ * A snapshot does not copy anything when it is taken: it keeps the board's
+ * per-column arrays, and the board copies a column before it next writes to
+ * it. Snapshots therefore share every column that has not changed since, and
+ * each one costs memory only for the columns the board went on to modify.
+ *
+ * Responsibilities:
+ * - Holds the letters, blocks, occupancy and heights of a board
+ * - Remembers which rows and columns were still waiting for a word scan
+ * - Answers read-only queries about them
+ *
+ * Collaborators:
+ * - GameBoard
+ * - BoardHistory
+ */
+public final class BoardSnapshot
+{
+    private final int cols;
+    private final int rows;
+
+    // Shared with the board that took the snapshot; never written through here
+    final char[][] letters;
+    final LetterBlock[][] blocks;
+    final long[] occupancy;
+    final int[] heights;
+    private final long hash;
+
+    // Copies owned by the snapshot, so a restore only rescans what was pending
+    final BitSet dirtyRows;
+    final BitSet dirtyCols;
+
+    BoardSnapshot(int cols, int rows, char[][] letters, LetterBlock[][] blocks, long[] occupancy, int[] heights, long hash,
+                  BitSet dirtyRows, BitSet dirtyCols)
+    {
+        this.hash = hash;
+        this.cols = cols;
+        this.rows = rows;
+        this.letters = letters;
+        this.blocks = blocks;
+        this.occupancy = occupancy;
+        this.heights = heights;
+        this.dirtyRows = dirtyRows;
+        this.dirtyCols = dirtyCols;
+    }
+
+    /**
+     * Returns the number of columns of the board.
+     *
+     * @return the column count
+     */
+    public int getColCount()
+    {
+        return cols;
+    }
+
+    /**
+     * Returns the number of rows of the board.
+     *
+     * @return the row count
+     */
+    public int getRowCount()
+    {
+        return rows;
+    }
+
+    /**
+     * Returns the lowercase letter in a cell.
+     *
+     * @param col the column
+     * @param row the row
+     * @return the letter, or 0 if the cell is empty
+     */
+    public char getLetter(int col, int row)
+    {
+        return letters[col][row];
+    }
+
+    /**
+     * Returns the block in a cell.
+     *
+     * @param col the column
+     * @param row the row
+     * @return the block, or null if the cell is empty
+     */
+    public LetterBlock getBlock(int col, int row)
+    {
+        return blocks[col][row];
+    }
+
+    /**
+     * Returns whether a cell holds a block.
+     *
+     * @param col the column
+     * @param row the row
+     * @return true if the cell is occupied
+     */
+    public boolean isOccupied(int col, int row)
+    {
+        return (occupancy[col * ((rows + 63) >>> 6) + (row >>> 6)] & (1L << row)) != 0;
+    }
+
+    /**
+     * Returns the height of a column at the time of the snapshot.
+     *
+     * @param col the column
+     * @return the height, 0 for an empty column
+     */
+    public int getHeight(int col)
+    {
+        return heights[col];
+    }
+
+    /**
+     * Returns the board's Zobrist hash at the time of the snapshot.
+     *
+     * @return the 64-bit hash
+     */
+    public long getHash()
+    {
+        return hash;
+    }
+
+    /**
+     * Returns whether this snapshot and another still share a column's
+     * arrays, that is the column did not change between them.
+     *
+     * @param other the other snapshot
+     * @param col the column
+     * @return true if the column is shared
+     */
+    public boolean sharesColumn(BoardSnapshot other, int col)
+    {
+        return letters[col] == other.letters[col];
+    }
+}
@@ -0,0 +1,87 @@
+package com.textris.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Resolves chain reactions on the board entirely in the model.
+ *
+ * After a block lands, the resolver repeats detect, clear and gravity until
+ * no new word forms. Each round is a wave, and every wave after the first
+ * scores with a higher multiplier. Nothing here touches the UI; the whole
+ * chain is returned as one CascadeResult for the window to animate.
+ *
+ * All words matched in a wave are merged into one ClearMask and cleared
+ * together. Scoring per wave: 10 points for each distinct cleared cell, 10
+ * more for each cell where a horizontal and a vertical word cross, all times
+ * the wave's multiplier. Words nested in a longer word on the same line (cat
+ * inside cats) add no extra points.
+ *
+ * Responsibilities:
+ * - Runs the detect, clear, gravity loop until the board is stable
+ * - Merges each wave's matches into one clear
+ * - Scores each wave with its combo multiplier
+ *
+ * Collaborators:
+ * - GameBoard
+ * - ClearMask
+ * - CascadeResult
+ */
+public class CascadeResolver {
+
+    private static final int POINTS_PER_LETTER = 10;
+
+    private final GameBoard board;
+
+    /**
+     * Creates a resolver for a board.
+     *
+     * @param board the board to resolve
+     */
+    public CascadeResolver(GameBoard board) {
+        this.board = board;
+    }
+
+    /**
+     * Resolves every word reachable from the board's dirty rows and columns,
+     * including words formed by blocks that fall after a clear.
+     *
+     * @return the waves that were cleared, or CascadeResult.EMPTY if none
+     */
+    public CascadeResult resolve() {
+        List<CascadeResult.Wave> waves = null;
+
+        while (board.hasDirtyCells()) {
+            List<GameBoard.WordMatch> matches = board.detectDirtyWords();
+            if (matches.isEmpty()) break;
+
+            int multiplier = (waves == null ? 0 : waves.size()) + 1;
+            List<String> words = new ArrayList<>(matches.size());
+            ClearMask mask = new ClearMask(board.getColCount(), board.getRowCount());
+
+            for (GameBoard.WordMatch match : matches) {
+                words.add(match.word);
+                mask.addWord(match.startCell.getCol(), match.startCell.getRow(), match.word.length(), match.dir);
+            }
+
+            List<LetterBlock> cleared = new ArrayList<>(mask.cellCount());
+            for (int i = mask.nextCell(0); i >= 0; i = mask.nextCell(i + 1)) {
+                int col = mask.colOf(i);
+                int row = mask.rowOf(i);
+                cleared.add(board.getCell(col, row).getBlock());
+                board.clearCell(col, row);
+            }
+
+            // Every cleared cell scores once, however many words share it, and
+            // a cell where a horizontal and a vertical word cross scores again
+            int points = (mask.cellCount() + mask.crossingCount()) * POINTS_PER_LETTER;
+
+            List<GravityMove> fallen = board.settle();
+
+            if (waves == null) waves = new ArrayList<>();
+            waves.add(new CascadeResult.Wave(words, cleared, fallen, multiplier, points * multiplier));
+        }
+
+        return waves == null ? CascadeResult.EMPTY : new CascadeResult(waves);
+    }
+}
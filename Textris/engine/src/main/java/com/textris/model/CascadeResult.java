@@ -0,0 +1,93 @@
+package com.textris.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The outcome of resolving one landed block: every wave of words that was
+ * cleared, in order, with the blocks that fell after each wave.
+ *
+ * The board has already been updated when a result is returned; the UI only
+ * replays the waves.
+ *
+ * Responsibilities:
+ * - Records the words, cleared blocks and falling blocks of each wave
+ * - Totals the points of the cascade
+ *
+ * Collaborators:
+ * - CascadeResolver
+ * - GameListener
+ */
+public final class CascadeResult {
+
+    /** A result with no waves, for a landing that formed no words. */
+    public static final CascadeResult EMPTY = new CascadeResult(List.of());
+
+    /**
+     * One round of detect, clear and gravity.
+     */
+    public static final class Wave {
+
+        /** The words matched in this wave. */
+        public final List<String> words;
+
+        /** The distinct blocks cleared in this wave. */
+        public final List<LetterBlock> cleared;
+
+        /** The blocks that fell after the clear. */
+        public final List<GravityMove> fallen;
+
+        /** The score multiplier of this wave; 1 for the first wave, then 2, 3, ... */
+        public final int multiplier;
+
+        /** The points scored by this wave, multiplier included. */
+        public final int points;
+
+        Wave(List<String> words, List<LetterBlock> cleared, List<GravityMove> fallen,
+             int multiplier, int points) {
+            this.words = words;
+            this.cleared = cleared;
+            this.fallen = fallen;
+            this.multiplier = multiplier;
+            this.points = points;
+        }
+    }
+
+    private final List<Wave> waves;
+    private final int points;
+
+    CascadeResult(List<Wave> waves) {
+        this.waves = Collections.unmodifiableList(new ArrayList<>(waves));
+        int total = 0;
+        for (Wave wave : waves) total += wave.points;
+        this.points = total;
+    }
+
+    /**
+     * Returns the waves in the order they were resolved.
+     *
+     * @return the waves
+     */
+    public List<Wave> getWaves() {
+        return waves;
+    }
+
+    /**
+     * Returns the total points of all waves.
+     *
+     * @return the points
+     */
+    public int getPoints() {
+        return points;
+    }
+
+    /**
+     * Returns whether no word was cleared.
+     *
+     * @return true if there are no waves
+     */
+    public boolean isEmpty() {
+        return waves.isEmpty();
+    }
+}
@@ -0,0 +1,129 @@
+package com.textris.model;
+
+/**
+ * A bitmask over the board's cells, one bit per cell, used to merge every word
+ * matched in a wave into a single clear.
+ *
+ * Horizontal and vertical words are kept in separate masks. Their union is
+ * the set of cells to clear, so a cell shared by several words is cleared
+ * once. Their intersection is the set of cells where a horizontal word
+ * crosses a vertical one, which scoring rewards.
+ *
+ * Cells are numbered column by column: index = col * rows + row.
+ *
+ * Responsibilities:
+ * - Collects the cells of all matched words without duplicates
+ * - Counts distinct and crossing cells for scoring
+ * - Iterates the cells to clear in index order
+ *
+ * Collaborators:
+ * - CascadeResolver
+ * - GameBoard
+ */
+public final class ClearMask {
+
+    private final int rows;
+    private final long[] across;
+    private final long[] down;
+
+    /**
+     * Creates an empty mask for a board.
+     *
+     * @param cols the number of columns on the board
+     * @param rows the number of rows on the board
+     */
+    public ClearMask(int cols, int rows) {
+        this.rows = rows;
+        int words = (cols * rows + 63) >>> 6;
+        this.across = new long[words];
+        this.down = new long[words];
+    }
+
+    /**
+     * Marks the cells of a word.
+     *
+     * @param col the column of the word's first letter
+     * @param row the row of the word's first letter
+     * @param length the number of letters
+     * @param dir RIGHT for a horizontal word, DOWN for a vertical one
+     */
+    public void addWord(int col, int row, int length, Direction dir) {
+        long[] bits = (dir == Direction.RIGHT) ? across : down;
+        for (int i = 0; i < length; i++) {
+            int index = (dir == Direction.RIGHT) ? (col + i) * rows + row : col * rows + row + i;
+            bits[index >>> 6] |= 1L << index;
+        }
+    }
+
+    /**
+     * Returns the number of distinct cells to clear.
+     *
+     * @return the cell count
+     */
+    public int cellCount() {
+        int count = 0;
+        for (int i = 0; i < across.length; i++) count += Long.bitCount(across[i] | down[i]);
+        return count;
+    }
+
+    /**
+     * Returns the number of cells where a horizontal word crosses a vertical one.
+     *
+     * @return the crossing count
+     */
+    public int crossingCount() {
+        int count = 0;
+        for (int i = 0; i < across.length; i++) count += Long.bitCount(across[i] & down[i]);
+        return count;
+    }
+
+    /**
+     * Returns whether no cell is marked.
+     *
+     * @return true if the mask is empty
+     */
+    public boolean isEmpty() {
+        for (int i = 0; i < across.length; i++) {
+            if ((across[i] | down[i]) != 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns the first marked cell at or after an index.
+     *
+     * @param from the index to start from
+     * @return the cell index, or -1 if there is none
+     */
+    public int nextCell(int from) {
+        int word = from >>> 6;
+        if (word >= across.length) return -1;
+
+        long bits = (across[word] | down[word]) & (-1L << from);
+        while (bits == 0) {
+            if (++word == across.length) return -1;
+            bits = across[word] | down[word];
+        }
+        return (word << 6) + Long.numberOfTrailingZeros(bits);
+    }
+
+    /**
+     * Returns the column of a cell index.
+     *
+     * @param index the cell index
+     * @return the column
+     */
+    public int colOf(int index) {
+        return index / rows;
+    }
+
+    /**
+     * Returns the row of a cell index.
+     *
+     * @param index the cell index
+     * @return the row
+     */
+    public int rowOf(int index) {
+        return index % rows;
+    }
+}
@@ -0,0 +1,173 @@
+package com.textris.model;
+
+import com.textris.storage.DictionarySnapshot;
+import com.textris.storage.LanguagePack;
+import com.textris.storage.LanguageRegistry;
+import com.textris.storage.LetterTable;
+import com.textris.storage.LetterWeights;
+import com.textris.storage.LoadDictionary;
+import com.textris.storage.WordTrie;
+
+/**
+ * This class uses a text file of words to check if a word has
+ * formed on the grid.
+ *
+ * Responsibilities:
+ * - References Word dictionary
+ * - On block dropped, checks grid for new words
+ * - Determines the point value for words
+ * - Answers prefix and suffix queries so scans and hints can prune early
+ * - Optionally plays with another language's word list and letter weights
+ *
+ * Collaborators:
+ * - LoadDictionary
+ * - LanguageRegistry
+ *
+ * @author Jason Watts
+ */
+public class Dictionary {
+
+    // Null when playing with the default, hot-reloadable word list
+    private final LanguagePack language;
+
+    /**
+     * Instantiates the dictionary reader (using LoadDictionary).
+     * Loads array of 3 to 5  letter words in alphabetical order into memory
+     * that persists throughout the game.
+     */
+    public Dictionary() {
+        this.language = null;
+
+        try{
+            LoadDictionary.load();
+        }
+        catch(java.io.IOException e){
+            System.out.println("Dictionary failed to import:");
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Instantiates a dictionary for a registered language, loading the
+     * language through the LanguageRegistry if it is not resident. Falls back
+     * to the default word list if the language cannot be loaded.
+     *
+     * @param languageId the id of the language to play with
+     */
+    public Dictionary(String languageId) {
+        LanguagePack pack = null;
+        try {
+            pack = LanguageRegistry.getDefault().get(languageId);
+        }
+        catch (java.io.IOException e) {
+            System.out.println("Language " + languageId + " failed to import, using the default word list:");
+            e.printStackTrace();
+            try {
+                LoadDictionary.load();
+            }
+            catch (java.io.IOException fallback) {
+                fallback.printStackTrace();
+            }
+        }
+        this.language = pack;
+    }
+
+
+     /**
+     * Checks if a string is a valid word
+     *
+     * @param str string to check
+     * @return true or false whether the word list contains the word.
+     */
+    public boolean isValid(String str) {
+        DictionarySnapshot words = snapshot();
+        return words != null && words.isValid(str);
+    }
+
+    /**
+     * Checks if buf[off, off + len) is a valid word without creating a String.
+     *
+     * @param buf buffer holding the letters
+     * @param off index of the first letter
+     * @param len number of letters
+     * @return true if the letters spell a word
+     */
+    public boolean isValid(char[] buf, int off, int len) {
+        DictionarySnapshot words = snapshot();
+        return words != null && words.isValid(buf, off, len);
+    }
+
+    /**
+     * Checks if any word starts with the given letters.
+     *
+     * @param prefix letters to check
+     * @return true if at least one word starts with prefix
+     */
+    public boolean isPrefix(String prefix) {
+        DictionarySnapshot words = snapshot();
+        return words != null && words.isPrefix(prefix);
+    }
+
+    /**
+     * Checks if any word starts with buf[off, off + len) without creating a String.
+     *
+     * @param buf buffer holding the letters
+     * @param off index of the first letter
+     * @param len number of letters
+     * @return true if at least one word starts with the letters
+     */
+    public boolean isPrefix(char[] buf, int off, int len) {
+        DictionarySnapshot words = snapshot();
+        return words != null && words.isPrefix(buf, off, len);
+    }
+
+    /**
+     * Checks if any word ends with the given letters.
+     *
+     * @param suffix letters to check
+     * @return true if at least one word ends with suffix
+     */
+    public boolean hasSuffix(String suffix) {
+        DictionarySnapshot words = snapshot();
+        return words != null && words.hasSuffix(suffix);
+    }
+
+    /**
+     * Returns the word list currently in use. A scan that makes many lookups
+     * should hold on to one snapshot, so a dictionary reload that happens
+     * meanwhile cannot change the words halfway through.
+     *
+     * @return the current snapshot, or null if the word list failed to load
+     */
+    public DictionarySnapshot snapshot() {
+        return language != null ? language.getWords() : LoadDictionary.snapshot();
+    }
+
+    /**
+     * Returns the trie index for callers that walk words one letter at a time.
+     *
+     * @return the index, or null if the word list failed to load
+     */
+    public WordTrie getIndex() {
+        DictionarySnapshot words = snapshot();
+        return words == null ? null : words.getIndex();
+    }
+
+    /**
+     * Returns the letter distribution that belongs with this word list.
+     *
+     * @return the letter table
+     */
+    public LetterTable getLetterTable() {
+        return language != null ? language.getLetters() : LetterWeights.getTable();
+    }
+
+    /**
+     * Returns the id of the language being played.
+     *
+     * @return the language id
+     */
+    public String getLanguage() {
+        return language != null ? language.getLanguage() : LanguageRegistry.DEFAULT_LANGUAGE;
+    }
+}
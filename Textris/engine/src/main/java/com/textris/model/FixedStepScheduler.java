@@ -0,0 +1,229 @@
+package com.textris.model;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a tick at a fixed rate on one dedicated thread.
+ *
+ * Elapsed time is added to an accumulator and one tick runs for every full
+ * step in it, so a late wake-up is made up with extra ticks instead of
+ * drifting, and the average rate stays exact. If the thread falls far behind
+ * (a long GC pause, a debugger), at most MAX_CATCH_UP ticks run back to back
+ * and the rest of the backlog is dropped and counted.
+ *
+ * start() and stop() may be called from any thread, including from inside a
+ * tick. Only one loop thread ever runs: start() on a running scheduler does
+ * nothing, and a start() right after a stop() waits for the old thread to
+ * finish first. A tick cannot wait for its own thread, so every start() also
+ * hands its thread a new generation number; a thread whose generation is no
+ * longer the current one exits as soon as its tick returns.
+ *
+ * An optional drain task runs on the loop thread every time it wakes, before
+ * any tick. wake() cuts the current wait short, so work handed to the loop
+ * thread from elsewhere is picked up at once instead of on the next step.
+ *
+ * Responsibilities:
+ * - Calls the tick at a fixed, configurable rate
+ * - Runs the drain task whenever the loop is woken
+ * - Catches up after stalls with a bounded backlog
+ * - Records tick durations and wake-up jitter
+ *
+ * Collaborators:
+ * - GameLoop
+ * - LatencyHistogram
+ */
+public final class FixedStepScheduler {
+
+    /** Most ticks run in a row to make up for a stall. */
+    public static final int MAX_CATCH_UP = 5;
+
+    private final String name;
+    private final Runnable tick;
+    private final Runnable drain;
+    private final long stepNanos;
+
+    private final LatencyHistogram tickDurations = new LatencyHistogram("tick duration");
+    private final LatencyHistogram jitter = new LatencyHistogram("wake-up jitter");
+    private volatile long droppedTicks;
+
+    private volatile Thread thread;
+    private volatile boolean running;
+    private volatile long generation; // of the thread that should be running
+    private volatile boolean woken;
+
+    /**
+     * Creates a stopped scheduler.
+     *
+     * @param name the name of the loop thread
+     * @param tick the work to run every step
+     * @param stepMillis the time between ticks in milliseconds
+     * @throws IllegalArgumentException if stepMillis is not positive
+     */
+    public FixedStepScheduler(String name, Runnable tick, long stepMillis) {
+        this(name, () -> { }, tick, stepMillis);
+    }
+
+    /**
+     * Creates a stopped scheduler that also runs a drain task on every wake-up.
+     *
+     * @param name the name of the loop thread
+     * @param drain the work to run each time the loop wakes, before any tick
+     * @param tick the work to run every step
+     * @param stepMillis the time between ticks in milliseconds
+     * @throws IllegalArgumentException if stepMillis is not positive
+     */
+    public FixedStepScheduler(String name, Runnable drain, Runnable tick, long stepMillis) {
+        if (stepMillis <= 0) throw new IllegalArgumentException("step must be positive");
+        this.name = name;
+        this.drain = drain;
+        this.tick = tick;
+        this.stepNanos = TimeUnit.MILLISECONDS.toNanos(stepMillis);
+    }
+
+    /**
+     * Starts the loop thread if it is not already running.
+     */
+    public void start() {
+        Thread previous;
+        synchronized (this) {
+            if (running) return;
+            previous = thread;
+        }
+
+        // Let a stopped loop finish its last tick; joined outside the lock so
+        // that tick can still call stop()
+        if (previous != null && previous != Thread.currentThread()) {
+            try {
+                previous.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+
+        synchronized (this) {
+            if (running) return;
+            running = true;
+            long current = ++generation;
+            thread = new Thread(() -> run(current), name);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Asks the loop to stop. A tick in progress finishes first; no tick
+     * starts after this returns, except the one calling it.
+     */
+    public void stop() {
+        running = false;
+        Thread current = thread;
+        if (current != null) LockSupport.unpark(current);
+    }
+
+    /**
+     * Wakes the loop thread early so it runs the drain task now. Ticks still
+     * run on their fixed schedule. Safe to call from any thread.
+     */
+    public void wake() {
+        woken = true;
+        Thread current = thread;
+        if (current != null) LockSupport.unpark(current);
+    }
+
+    /**
+     * Returns whether the loop is running.
+     *
+     * @return true between start() and stop()
+     */
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Returns the time between ticks.
+     *
+     * @return the step in milliseconds
+     */
+    public long getStepMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(stepNanos);
+    }
+
+    /**
+     * Returns how long each tick took to run.
+     *
+     * @return the tick duration histogram
+     */
+    public LatencyHistogram getTickDurations() {
+        return tickDurations;
+    }
+
+    /**
+     * Returns how late the loop thread woke up compared to when it asked to.
+     *
+     * @return the jitter histogram
+     */
+    public LatencyHistogram getJitter() {
+        return jitter;
+    }
+
+    /**
+     * Returns the number of ticks dropped because the loop fell too far behind.
+     *
+     * @return the dropped tick count
+     */
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+
+    private void run(long runGeneration) {
+        long previous = System.nanoTime();
+        long accumulator = 0;
+
+        while (isCurrent(runGeneration)) {
+            woken = false;
+            runSafely(drain);
+
+            long now = System.nanoTime();
+            accumulator += now - previous;
+            previous = now;
+
+            if (accumulator > MAX_CATCH_UP * stepNanos) {
+                droppedTicks += accumulator / stepNanos - MAX_CATCH_UP;
+                accumulator = MAX_CATCH_UP * stepNanos;
+            }
+
+            while (accumulator >= stepNanos && isCurrent(runGeneration)) {
+                long start = System.nanoTime();
+                runSafely(tick);
+                tickDurations.record(System.nanoTime() - start);
+                accumulator -= stepNanos;
+            }
+
+            long wait = stepNanos - accumulator - (System.nanoTime() - previous);
+            if (wait > 0 && isCurrent(runGeneration) && !woken) {
+                long parkedAt = System.nanoTime();
+                LockSupport.parkNanos(this, wait);
+                // An early wake-up from wake() is not jitter
+                if (isCurrent(runGeneration) && !woken) jitter.record(System.nanoTime() - parkedAt - wait);
+            }
+        }
+    }
+
+    /**
+     * Returns whether a loop thread should keep going: the scheduler has not
+     * been stopped, nor restarted on a newer thread.
+     */
+    private boolean isCurrent(long runGeneration) {
+        return running && generation == runGeneration;
+    }
+
+    private static void runSafely(Runnable work) {
+        try {
+            work.run();
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,927 @@
+package com.textris.model;
+
+import static com.textris.model.Direction.DOWN;
+import static com.textris.model.Direction.LEFT;
+import static com.textris.model.Direction.RIGHT;
+import java.util.List;
+import com.textris.storage.DictionarySnapshot;
+import com.textris.storage.WordScanner;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class represents the main game board.
+ *
+ * The board is stored in primitive arrays, one per column: a char per cell
+ * for the letter and a reference per cell for the block. Neighbors are found
+ * with index arithmetic, so no per-cell objects exist. GameCell is only a
+ * lightweight view handed out to callers.
+ *
+ * Columns are copy-on-write. snapshot() hands out the current arrays as an
+ * immutable BoardSnapshot in O(1); the board copies a column (and the small
+ * outer arrays) only the first time it writes to it afterwards, so a snapshot
+ * costs memory in proportion to what changed since it was taken.
+ *
+ * Responsibilities:
+ * - Store the letters and blocks of every cell
+ * - Take and restore snapshots in constant time
+ * - Keep a Zobrist hash of the letters on the board up to date
+ * - Hand out GameCell views over those cells
+ * - Keep a per-column occupancy bitboard for movement and gravity checks
+ * - Keep a per-column height index for landing and game-over checks
+ * - Track which rows and columns changed since the last word scan
+ *
+ * Collaborators:
+ * - LetterBlock
+ * - GameCell
+ * - GameListener
+ * 
+ */
+public class GameBoard 
+{
+    /** Number of columns on a board created without a size. */
+    public static final int DEFAULT_COLS = 5;
+
+    /** Number of rows on a board created without a size. */
+    public static final int DEFAULT_ROWS = 8;
+
+    /** Largest supported number of columns. */
+    public static final int MAX_COLS = 64;
+
+    /** Largest supported number of rows. */
+    public static final int MAX_ROWS = 256;
+
+    private static final int MIN_WORD_LENGTH = 3;
+
+    private final Dictionary dictionary;
+    private final int cols;
+    private final int rows; // add 1 row for checking if game should end
+    private char[][] letters; // lowercase letter of each cell by [col][row], 0 when empty
+    private LetterBlock[][] blocks; // block of each cell by [col][row], null when empty
+    private final int wordsPerColumn; // longs of occupancy per column
+    private long[] occupancy; // bit (row & 63) of occupancy[col * wordsPerColumn + (row >>> 6)] is set when the cell holds a block
+    private int[] heights; // rows from the bottom up to the highest occupied cell of each column
+
+    // Copy-on-write bookkeeping: the arrays above may be shared with snapshots
+    private boolean sharedOuter; // letters, blocks, occupancy and heights are referenced by a snapshot
+    private final long[] columnGeneration; // a column is private to the board when its entry equals generation
+    private long generation;
+
+    private long hash; // Zobrist hash: XOR of zobristKey(col, row, letter) over every occupied cell
+    private final char[] lineBuffer; // letters of the row or column being scanned
+    private final BitSet dirtyRows; // rows touched by a landing or gravity since the last scan
+    private final BitSet dirtyCols; // columns touched by a landing or gravity since the last scan
+    private final RunCollector collector = new RunCollector();
+    private GameListener listener = GameListener.NONE;
+
+    // renamed isBoardBusy -> boardBusy for consistency with GameLoop
+    private volatile boolean boardBusy = false;
+
+    /**
+     * Creates an empty GameBoard by interconnecting GameCells.
+     */
+    public GameBoard() 
+    {
+        this(new Dictionary());
+    }
+
+    /**
+     * Creates an empty GameBoard that checks words against a shared dictionary.
+     *
+     * @param dictionary the dictionary used to detect words
+     */
+    public GameBoard(Dictionary dictionary) 
+    {
+        this(dictionary, DEFAULT_COLS, DEFAULT_ROWS);
+    }
+
+    /**
+     * Creates an empty GameBoard of the given size.
+     *
+     * @param dictionary the dictionary used to detect words
+     * @param cols the number of columns, 1 to MAX_COLS
+     * @param rows the number of rows, 2 to MAX_ROWS
+     * @throws IllegalArgumentException if the size is out of range
+     */
+    public GameBoard(Dictionary dictionary, int cols, int rows) 
+    {
+        if (cols < 1 || cols > MAX_COLS || rows < 2 || rows > MAX_ROWS) 
+        {
+            throw new IllegalArgumentException("Unsupported board size " + cols + "x" + rows);
+        }
+        this.dictionary = dictionary;
+        this.cols = cols;
+        this.rows = rows;
+        wordsPerColumn = (this.rows + 63) >>> 6;
+        columnGeneration = new long[this.cols];
+        allocate();
+        lineBuffer = new char[Math.max(this.cols, this.rows)];
+        dirtyRows = new BitSet(this.rows);
+        dirtyCols = new BitSet(this.cols);
+    }
+
+    /**
+     * Returns whether the board is currently busy (processing a movement or gravity).
+     *
+     * @return true if the board is busy, false otherwise
+     */
+    public boolean isBoardBusy() 
+    {
+        return boardBusy;
+    }
+
+    /**
+     * Represents a found word on the board and its starting position/direction.
+     */
+    public static class WordMatch 
+    {
+        /**
+        * The word itself.
+        */
+        public final String word;
+        
+        /**
+        * The GameCell that the word starts in.
+        */
+        public final GameCell startCell;
+        
+        /**
+        * The direction that the word goes in.
+        */
+        public final Direction dir;
+
+    
+        /**
+        * Checks if a LetterBlock can move in a given direction.
+        *
+        * @param word the word
+        * @param startCell the cell that it starts in
+        * @param dir the direction of the word
+        */
+        public WordMatch(String word, GameCell startCell, Direction dir) 
+        {
+            this.word = word;
+            this.startCell = startCell;
+            this.dir = dir;
+        }
+    }
+
+    /**
+     * Clears all cells on the board, resetting it to empty.
+     */
+    public void clearBoard() 
+    {
+        allocate();
+        dirtyRows.clear();
+        dirtyCols.clear();
+    }
+
+    /**
+     * Gives the board fresh, empty arrays that no snapshot shares.
+     */
+    private void allocate() 
+    {
+        letters = new char[cols][rows];
+        blocks = new LetterBlock[cols][rows];
+        occupancy = new long[cols * wordsPerColumn];
+        heights = new int[cols];
+        hash = 0;
+        sharedOuter = false;
+        Arrays.fill(columnGeneration, generation);
+    }
+
+    /**
+     * Takes an immutable snapshot of the board's cells in constant time. The
+     * snapshot shares the board's arrays until the board writes to them.
+     *
+     * @return the snapshot
+     */
+    public BoardSnapshot snapshot() 
+    {
+        sharedOuter = true;
+        generation++;
+        return new BoardSnapshot(cols, rows, letters, blocks, occupancy, heights, hash,
+                (BitSet) dirtyRows.clone(), (BitSet) dirtyCols.clone());
+    }
+
+    /**
+     * Puts the board's cells back to a snapshot in constant time. The
+     * snapshot's arrays are shared, not copied, and stay untouched: the board
+     * copies a column before it next writes to it.
+     *
+     * LetterBlock objects keep whatever row and column they last had; read
+     * positions from the board (or the snapshot) after a restore, not from
+     * the blocks. The dirty rows and columns are put back to what they were
+     * when the snapshot was taken, so a restore adds no rescanning.
+     *
+     * @param snapshot a snapshot taken from a board of the same size
+     * @throws IllegalArgumentException if the snapshot has a different size
+     */
+    public void restore(BoardSnapshot snapshot) 
+    {
+        if (snapshot.getColCount() != cols || snapshot.getRowCount() != rows) 
+        {
+            throw new IllegalArgumentException("Snapshot size does not match the board");
+        }
+        letters = snapshot.letters;
+        blocks = snapshot.blocks;
+        occupancy = snapshot.occupancy;
+        heights = snapshot.heights;
+        hash = snapshot.getHash();
+        sharedOuter = true;
+        generation++;
+        dirtyRows.clear();
+        dirtyRows.or(snapshot.dirtyRows);
+        dirtyCols.clear();
+        dirtyCols.or(snapshot.dirtyCols);
+    }
+
+    /**
+     * Returns the Zobrist hash of the board: equal boards (same letters in the
+     * same cells) have equal hashes. It is updated with one XOR per cell
+     * change, never recomputed.
+     *
+     * @return the 64-bit hash
+     */
+    public long getHash() 
+    {
+        return hash;
+    }
+
+    /**
+     * Recomputes the Zobrist hash from every cell, for checking the
+     * incrementally maintained one.
+     *
+     * @return the 64-bit hash
+     */
+    public long computeHash() 
+    {
+        long full = 0;
+        for (int col = 0; col < cols; col++) 
+        {
+            for (int row = 0; row < rows; row++) 
+            {
+                if (blocks[col][row] != null) full ^= zobristKey(col, row, letters[col][row]);
+            }
+        }
+        return full;
+    }
+
+    /**
+     * Returns the random key of one letter in one cell. Keys are derived with
+     * a SplitMix64 finalizer instead of being stored, so boards up to
+     * MAX_COLS x MAX_ROWS need no per-board key table.
+     *
+     * @param col the column
+     * @param row the row
+     * @param letter the lowercase letter
+     * @return the key
+     */
+    static long zobristKey(int col, int row, char letter) 
+    {
+        long z = ((((long) col * MAX_ROWS + row) << 8) | letter) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Makes sure a column, and the outer arrays, belong to the board alone
+     * before it is written to, copying whatever a snapshot still shares.
+     */
+    private void own(int col) 
+    {
+        if (sharedOuter) 
+        {
+            letters = letters.clone();
+            blocks = blocks.clone();
+            occupancy = occupancy.clone();
+            heights = heights.clone();
+            sharedOuter = false;
+        }
+        if (columnGeneration[col] != generation) 
+        {
+            letters[col] = letters[col].clone();
+            blocks[col] = blocks[col].clone();
+            columnGeneration[col] = generation;
+        }
+    }
+
+    /**
+     * Marks the row and column through a cell as changed, so the next call to
+     * detectDirtyWords scans them.
+     *
+     * @param col the column of the cell
+     * @param row the row of the cell
+     */
+    public void markDirty(int col, int row)
+    {
+        dirtyRows.set(row);
+        dirtyCols.set(col);
+    }
+
+    /**
+     * Returns whether any row or column changed since the last scan.
+     *
+     * @return true if there is something left to scan
+     */
+    public boolean hasDirtyCells()
+    {
+        return !dirtyRows.isEmpty() || !dirtyCols.isEmpty();
+    }
+
+    /**
+     * Moves a LetterBlock in the given direction if possible.
+     * Updates the board arrays, and the block’s row and column.
+     *
+     * @param block the LetterBlock to move
+     * @param dir the direction to move (LEFT, RIGHT, DOWN)
+     */
+    public void move(LetterBlock block, Direction dir) 
+    {
+        int row = block.getRow();
+        int col = block.getCol();
+        removeBlock(col, row);
+
+        int newRow = row;
+        int newCol = col;
+
+        switch (dir) 
+        {
+            case DOWN -> newRow++;
+            case LEFT -> newCol--;
+            case RIGHT -> newCol++;
+        }
+
+        putBlock(newCol, newRow, block);
+        block.setRow(newRow);
+        block.setCol(newCol);
+
+        listener.blockMoved(block, newCol, newRow);
+    }
+
+    /**
+     * Checks if a LetterBlock can move in a given direction.
+     *
+     * @param block the LetterBlock to check
+     * @param dir the direction to test
+     * @return true if the block can move, false otherwise
+     */
+    public boolean canMove(LetterBlock block, Direction dir) 
+    {
+        int row = block.getRow();
+        int col = block.getCol();
+
+        switch (dir) 
+        {
+            case DOWN:
+                if (row == rows - 1) return false;
+                return !isOccupied(col, row + 1);
+            case LEFT:
+                if (col == 0) return false;
+                return !isOccupied(col - 1, row);
+            case RIGHT:
+                if (col == cols - 1) return false;
+                return !isOccupied(col + 1, row);
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the row a block dropped into a column from above would land on,
+     * read straight from the column's height.
+     *
+     * @param col the column
+     * @return the landing row, or -1 if the column is full
+     */
+    public int landingRow(int col) 
+    {
+        return rows - 1 - heights[col];
+    }
+
+    /**
+     * Returns the height of a column: the number of rows from the bottom up to
+     * and including its highest occupied cell.
+     *
+     * @param col the column
+     * @return the height, 0 for an empty column
+     */
+    public int getHeight(int col) 
+    {
+        return heights[col];
+    }
+
+    /**
+     * Checks whether a new block can no longer spawn at a cell because the
+     * column's stack has reached it. Used for the game-over check.
+     *
+     * @param col the spawn column
+     * @param row the spawn row
+     * @return true if the spawn cell is covered by the column's stack
+     */
+    public boolean isSpawnBlocked(int col, int row) 
+    {
+        return heights[col] >= rows - row;
+    }
+
+    /**
+     * Drops a block straight down to where it lands, in one move.
+     *
+     * @param block the falling block
+     * @return the row the block landed on
+     */
+    public int hardDrop(LetterBlock block) 
+    {
+        int col = block.getCol();
+        int row = block.getRow();
+
+        // Lift the block off first so the column height is that of the stack below it
+        removeBlock(col, row);
+        int target = Math.max(landingRow(col), row);
+        putBlock(col, target, block);
+        block.setRow(target);
+
+        listener.blockMoved(block, col, target);
+        return target;
+    }
+
+    /**
+     * Returns the row a block dropped from a cell would come to rest on: the
+     * cell just above the first occupied cell below it, or the bottom row.
+     * Found with a bit scan of the column's occupancy, not a walk over cells.
+     *
+     * @param col the column
+     * @param fromRow the row the block starts from
+     * @return the landing row, which is fromRow if the block cannot fall
+     */
+    public int landingRow(int col, int fromRow) 
+    {
+        int base = col * wordsPerColumn;
+        int row = fromRow + 1;
+        for (int w = row >>> 6; w < wordsPerColumn; w++) 
+        {
+            long bits = occupancy[base + w];
+            if (w == row >>> 6) bits &= -1L << row;
+            if (bits != 0) return (w << 6) + Long.numberOfTrailingZeros(bits) - 1;
+        }
+        return rows - 1;
+    }
+
+    /**
+     * Returns whether a cell holds a block, read from the occupancy bitboard.
+     *
+     * @param col the column
+     * @param row the row
+     * @return true if the cell is occupied
+     */
+    public boolean isOccupied(int col, int row) 
+    {
+        return (occupancy[col * wordsPerColumn + (row >>> 6)] & (1L << row)) != 0;
+    }
+
+    /**
+     * Stores a block in a cell. Does not change the block's own row and column.
+     *
+     * @param col the column
+     * @param row the row
+     * @param block the block to store
+     */
+    void putBlock(int col, int row, LetterBlock block) 
+    {
+        own(col);
+        if (blocks[col][row] != null) hash ^= zobristKey(col, row, letters[col][row]);
+        blocks[col][row] = block;
+        letters[col][row] = Character.toLowerCase(block.getLetter());
+        hash ^= zobristKey(col, row, letters[col][row]);
+        setOccupied(col, row);
+        heights[col] = Math.max(heights[col], rows - row);
+    }
+
+    /**
+     * Empties a cell.
+     *
+     * @param col the column
+     * @param row the row
+     */
+    void removeBlock(int col, int row) 
+    {
+        own(col);
+        if (blocks[col][row] != null) hash ^= zobristKey(col, row, letters[col][row]);
+        blocks[col][row] = null;
+        letters[col][row] = '\0';
+        clearOccupied(col, row);
+        if (heights[col] == rows - row) heights[col] = rows - topOccupiedRow(col);
+    }
+
+    /**
+     * Finds the highest occupied row of a column with a bit scan.
+     *
+     * @return the row, or rows if the column is empty
+     */
+    private int topOccupiedRow(int col) 
+    {
+        int base = col * wordsPerColumn;
+        for (int w = 0; w < wordsPerColumn; w++) 
+        {
+            long bits = occupancy[base + w];
+            if (bits != 0) return (w << 6) + Long.numberOfTrailingZeros(bits);
+        }
+        return rows;
+    }
+
+    /**
+     * Returns the block in a cell.
+     *
+     * @param col the column
+     * @param row the row
+     * @return the block, or null if the cell is empty
+     */
+    LetterBlock blockAt(int col, int row) 
+    {
+        return blocks[col][row];
+    }
+
+    private void setOccupied(int col, int row) 
+    {
+        occupancy[col * wordsPerColumn + (row >>> 6)] |= 1L << row;
+    }
+
+    private void clearOccupied(int col, int row) 
+    {
+        occupancy[col * wordsPerColumn + (row >>> 6)] &= ~(1L << row);
+    }
+
+    /**
+     * Returns the occupancy bits of one 64-row word of a column that a fully
+     * settled column would have, given the rows [from, rows) are filled.
+     */
+    private long settledBits(int word, int from) 
+    {
+        int start = Math.max(from - (word << 6), 0);
+        int end = Math.min(rows - (word << 6), 64);
+        if (start >= end) return 0;
+        long below = end == 64 ? -1L : (1L << end) - 1;
+        return below & (-1L << start);
+    }
+
+    
+    /**
+     * Returns the number of rows in the board.
+     *
+     * @return the number of rows in the board
+     */
+    public int getRowCount() 
+    { 
+        return this.rows; 
+    }
+    
+    
+    /**
+     * Returns the number of columns in the board.
+     *
+     * @return the number of columns in the board
+     */
+    public int getColCount() 
+    { 
+        return this.cols; 
+    }
+    
+    
+    /**
+     * Returns a view of the cell at a certain point in the board.
+     *
+     * @param x the x coordinate
+     * @param y the y coordinate
+     * @return the GameCell that exists at x,y in the board
+     */
+    public GameCell getCell(int x, int y) 
+    { 
+        return new GameCell(this, x, y); 
+    }
+
+    
+    /**
+     * Detects horizontal and vertical words (3 letters or more) formed around the given cell.
+     * Letters are read into a reused buffer and streamed through the
+     * dictionary's word scanner, so nothing is allocated unless a word is found.
+     * 
+     * @param startCell the GameCell to start the search from
+     * @return the list of valid words
+     */
+    public List<WordMatch> detectWords(GameCell startCell) 
+    {
+        List<WordMatch> matches = null;
+        if (startCell == null || startCell.isEmpty()) return List.of();
+
+        // One snapshot for the whole scan, even if the word list is reloaded meanwhile
+        DictionarySnapshot words = dictionary.snapshot();
+        if (words == null) return List.of();
+
+        int col = startCell.getCol();
+        int row = startCell.getRow();
+
+        // HORIZONTAL SCAN
+        int left = col;
+        while (left > 0 && letters[left - 1][row] != 0) left--;
+
+        int hLen = readRun(left, row, Direction.RIGHT);
+        matches = scanRun(words, left, row, hLen, Direction.RIGHT, matches);
+
+        // VERTICAL SCAN
+        int top = row;
+        while (top > 0 && letters[col][top - 1] != 0) top--;
+
+        int vLen = readRun(col, top, Direction.DOWN);
+        matches = scanRun(words, col, top, vLen, Direction.DOWN, matches);
+
+        return matches == null ? List.of() : matches;
+    }
+
+    /**
+     * Detects the words in every row and column marked dirty since the last
+     * scan, then clears the marks. Only the lines that changed are read, so the
+     * cost follows the number of landed and fallen blocks, not the board size.
+     *
+     * @return the list of valid words
+     */
+    public List<WordMatch> detectDirtyWords()
+    {
+        List<WordMatch> matches = null;
+        DictionarySnapshot words = dictionary.snapshot();
+        if (words == null)
+        {
+            dirtyRows.clear();
+            dirtyCols.clear();
+            return List.of();
+        }
+
+        for (int row = dirtyRows.nextSetBit(0); row >= 0; row = dirtyRows.nextSetBit(row + 1))
+        {
+            int col = 0;
+            while (col < cols)
+            {
+                if (letters[col][row] == 0)
+                {
+                    col++;
+                    continue;
+                }
+                int len = readRun(col, row, Direction.RIGHT);
+                matches = scanRun(words, col, row, len, Direction.RIGHT, matches);
+                col += len;
+            }
+        }
+
+        for (int col = dirtyCols.nextSetBit(0); col >= 0; col = dirtyCols.nextSetBit(col + 1))
+        {
+            int row = 0;
+            while (row < rows)
+            {
+                if (letters[col][row] == 0)
+                {
+                    row++;
+                    continue;
+                }
+                int len = readRun(col, row, Direction.DOWN);
+                matches = scanRun(words, col, row, len, Direction.DOWN, matches);
+                row += len;
+            }
+        }
+
+        dirtyRows.clear();
+        dirtyCols.clear();
+        return matches == null ? List.of() : matches;
+    }
+
+    /**
+     * Copies the lowercase letters of a run of occupied cells into lineBuffer.
+     *
+     * @param col the column of the first cell of the run
+     * @param row the row of the first cell of the run
+     * @param dir the direction the run reads in (RIGHT or DOWN)
+     * @return the length of the run
+     */
+    private int readRun(int col, int row, Direction dir)
+    {
+        int len = 0;
+        if (dir == Direction.RIGHT) 
+        {
+            while (col + len < cols && letters[col + len][row] != 0) 
+            {
+                lineBuffer[len] = letters[col + len][row];
+                len++;
+            }
+        } 
+        else 
+        {
+            char[] column = letters[col];
+            while (row + len < rows && column[row + len] != 0) 
+            {
+                lineBuffer[len] = column[row + len];
+                len++;
+            }
+        }
+        return len;
+    }
+
+    /**
+     * Finds every word of at least three letters in the run currently held in
+     * lineBuffer, in one pass of the dictionary's word scanner. Dictionary
+     * words are at most PackedWordSet.MAX_LENGTH letters long, even on wide boards.
+     *
+     * @param words the dictionary snapshot to check against
+     * @param col the column of the first cell of the run
+     * @param row the row of the first cell of the run
+     * @param len the length of the run
+     * @param dir the direction the run reads in
+     * @param matches the list found words are added to, or null if none yet
+     * @return the list of matches, or null if there are still none
+     */
+    private List<WordMatch> scanRun(DictionarySnapshot words, int col, int row, int len, Direction dir, List<WordMatch> matches)
+    {
+        if (len < MIN_WORD_LENGTH) return matches;
+
+        collector.col = col;
+        collector.row = row;
+        collector.dir = dir;
+        collector.matches = matches;
+        words.getScanner().scan(lineBuffer, 0, len, collector);
+        return collector.matches;
+    }
+
+    /**
+     * Turns the scanner's offsets into WordMatches for the run being scanned.
+     */
+    private final class RunCollector implements WordScanner.Hit
+    {
+        private int col;
+        private int row;
+        private Direction dir;
+        private List<WordMatch> matches;
+
+        @Override
+        public void found(int start, int length)
+        {
+            if (length < MIN_WORD_LENGTH) return;
+
+            GameCell cell = (dir == Direction.RIGHT) ? getCell(col + start, row) : getCell(col, row + start);
+            if (matches == null) matches = new ArrayList<>();
+            matches.add(new WordMatch(new String(lineBuffer, start, length), cell, dir));
+        }
+    }
+
+    /**
+     * Attempts to place a block in its designated starting cell.
+     * 
+     * @param block the block to place
+     * @return true if the block was placed successfully
+     */
+    public boolean placeBlock(LetterBlock block) 
+    {
+        int row = block.getRow();
+        int col = block.getCol();
+
+        if (row < 0 || row >= this.rows || col < 0 || col >= this.cols) 
+        {
+            return false;
+        }
+
+        if (isOccupied(col, row)) 
+        {
+            return false;
+        }
+
+        putBlock(col, row, block);
+        return true;
+    }
+
+    /**
+     * Removes the block in a cell from the model. The block's node is left to
+     * the UI.
+     *
+     * @param col the column of the cell
+     * @param row the row of the cell
+     */
+    public void clearCell(int col, int row)
+    {
+        removeBlock(col, row);
+    }
+
+    /**
+     * Lets unsupported blocks fall in the model only, without moving any nodes
+     * on screen. A column whose occupancy bits already form one solid stack at
+     * the bottom is skipped after a popcount and a compare; any other column is
+     * compacted downward in one pass over its set bits, so each block moves
+     * straight to its final row. Every block that falls marks its new row and
+     * column dirty.
+     *
+     * @return one move per block that fell, with the blocks' rows already updated
+     */
+    public List<GravityMove> settle()
+    {
+        List<GravityMove> fallen = new ArrayList<>();
+        for (int col = 0; col < cols; col++) 
+        {
+            int base = col * wordsPerColumn;
+            int count = 0;
+            for (int w = 0; w < wordsPerColumn; w++) count += Long.bitCount(occupancy[base + w]);
+
+            int top = rows - count;
+            boolean settled = true;
+            for (int w = 0; w < wordsPerColumn && settled; w++) 
+            {
+                settled = occupancy[base + w] == settledBits(w, top);
+            }
+            if (settled) continue;
+
+            own(col);
+            char[] columnLetters = letters[col];
+            LetterBlock[] columnBlocks = blocks[col];
+
+            // Walk the occupied rows from the bottom up, packing each onto the floor
+            int floor = rows - 1;
+            for (int w = wordsPerColumn - 1; w >= 0; w--) 
+            {
+                long bits = occupancy[base + w];
+                while (bits != 0) 
+                {
+                    int bit = 63 - Long.numberOfLeadingZeros(bits);
+                    bits &= ~(1L << bit);
+                    int row = (w << 6) + bit;
+
+                    if (row != floor) 
+                    {
+                        LetterBlock block = columnBlocks[row];
+                        hash ^= zobristKey(col, row, columnLetters[row]) ^ zobristKey(col, floor, columnLetters[row]);
+                        columnBlocks[floor] = block;
+                        columnLetters[floor] = columnLetters[row];
+                        columnBlocks[row] = null;
+                        columnLetters[row] = '\0';
+                        block.setRow(floor);
+                        markDirty(col, floor);
+                        fallen.add(new GravityMove(block, row, floor));
+                    }
+                    floor--;
+                }
+            }
+
+            for (int w = 0; w < wordsPerColumn; w++) occupancy[base + w] = settledBits(w, top);
+            heights[col] = count;
+        }
+        return fallen;
+    }
+
+    /**
+     * Applies gravity to all blocks, letting unsupported blocks fall downward.
+     * Every column is compacted in one pass and all the resulting moves are
+     * reported to the listener in one batch, instead of one update per row
+     * stepped.
+     *
+     * @return the moves that were applied
+     */
+    public List<GravityMove> applyGravity() 
+    {
+        boardBusy = true;
+        List<GravityMove> moves = settle();
+        if (!moves.isEmpty()) listener.blocksFell(moves);
+        boardBusy = false;
+        return moves;
+    }
+
+    
+    /**
+     * Sets the listener told about moved and fallen blocks.
+     *
+     * @param listener the listener, or null for none
+     */
+    public void setListener(GameListener listener) 
+    { this.listener = listener == null ? GameListener.NONE : listener; }
+
+    
+    /**
+     * Prints the board to the console for debugging.
+     */
+    public void printBoard() 
+    {
+        System.out.println("---- BOARD ----");
+        for (int i = 0; i < rows; i++) 
+        {
+            for (int j = 0; j < cols; j++) 
+            {
+                LetterBlock block = blocks[j][i];
+                if (block == null) 
+                {
+                    System.out.print("* ");
+                } 
+                else 
+                {
+                    System.out.print(block.getLetter() + " ");
+                }
+            }
+            System.out.println();
+        }
+        System.out.println("---------------");
+    }
+}
+
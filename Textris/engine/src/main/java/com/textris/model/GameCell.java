@@ -0,0 +1,206 @@
+package com.textris.model;
+
+/**
+ * This class represents a cell in the GameBoard that holds a
+ * LetterBlock.
+ *
+ * A GameCell is a lightweight view of one position on the board: the board
+ * itself keeps the letters and blocks in flat arrays, and a cell only knows
+ * its board, column and row. Views are cheap to create and two views of the
+ * same position are equal.
+ *
+ * Responsibilities:
+ * - Gives access to the LetterBlock at one board position
+ * - Gives access to the neighboring cells
+ *
+ * Collaborators:
+ * - LetterBlock
+ * - GameBoard
+ */
+public final class GameCell
+{
+    private final GameBoard board;
+    private final int col;
+    private final int row;
+
+    /**
+     * Creates a view of a board position.
+     *
+     * @param board the board the cell belongs to
+     * @param col the column of the cell
+     * @param row the row of the cell
+     */
+    GameCell(GameBoard board, int col, int row)
+    {
+        this.board = board;
+        this.col = col;
+        this.row = row;
+    }
+
+    /**
+     * Allows changing of held LetterBlock
+     *
+     * @param newBlock new block to put in
+     */
+    public void setBlock(LetterBlock newBlock)
+    {
+        if (newBlock != null)
+        {
+            board.putBlock(col, row, newBlock);
+        }
+    }
+
+    /**
+     * Allows access to the LetterBlock for reading
+     *
+     * @return the letterblock, or null if the cell is empty
+     */
+    public LetterBlock getBlock()
+    {
+        return board.blockAt(col, row);
+    }
+
+    /**
+     * Clears the letterblock from the gamecell, leaving it empty
+     */
+    public void clear()
+    {
+        board.removeBlock(col, row);
+    }
+
+    /**
+     * Allows check if the GameCell is empty
+     *
+     * @return if empty
+     */
+    public boolean isEmpty()
+    {
+        return !board.isOccupied(col, row);
+    }
+
+    /**
+     * Allows check if the GameCell has an occupied cell below it
+     *
+     * @return if the GameCell.down is occupied
+     */
+    public boolean canFall()
+    {
+        return row < board.getRowCount() - 1 && !board.isOccupied(col, row + 1);
+    }
+
+    /**
+     * Returns the column of the cell.
+     *
+     * @return column
+     */
+    public int getCol()
+    {
+        return col;
+    }
+
+    /**
+     * Returns the row of the cell.
+     *
+     * @return row
+     */
+    public int getRow()
+    {
+        return row;
+    }
+
+    /**
+     * Allows access to left GameCell
+     *
+     * @return left GameCell, or null at the left edge
+     */
+    public GameCell getLeft()
+    {
+        return col > 0 ? new GameCell(board, col - 1, row) : null;
+    }
+
+    /**
+     * Allows access to right GameCell
+     *
+     * @return right GameCell, or null at the right edge
+     */
+    public GameCell getRight()
+    {
+        return col < board.getColCount() - 1 ? new GameCell(board, col + 1, row) : null;
+    }
+
+     /**
+     * Allows access to upper GameCell
+     *
+     * @return upper GameCell, or null at the top
+     */
+    public GameCell getUp()
+    {
+        return row > 0 ? new GameCell(board, col, row - 1) : null;
+    }
+
+     /**
+     * Allows access to lower GameCell
+     *
+     * @return lower GameCell, or null at the bottom
+     */
+    public GameCell getDown()
+    {
+        return row < board.getRowCount() - 1 ? new GameCell(board, col, row + 1) : null;
+    }
+
+    /**
+     * Moves the current LetterBlock left
+     */
+    public void moveLeft()
+    {
+        moveTo(getLeft());
+    }
+
+    /**
+     * Moves the current LetterBlock right
+     */
+    public void moveRight()
+    {
+        moveTo(getRight());
+    }
+
+    /**
+     * Moves the current LetterBlock down
+     */
+    public void moveDown()
+    {
+        if (canFall())
+        {
+            moveTo(getDown());
+        }
+    }
+
+    private void moveTo(GameCell target)
+    {
+        if (!isEmpty() && target != null && target.isEmpty())
+        {
+            target.setBlock(getBlock());
+            clear();
+        }
+    }
+
+    /**
+     * Two cells are equal when they view the same position of the same board.
+     *
+     * @param other the object to compare with
+     * @return true if both view the same position
+     */
+    @Override
+    public boolean equals(Object other)
+    {
+        if (this == other) return true;
+        if (!(other instanceof GameCell cell)) return false;
+        return board == cell.board && col == cell.col && row == cell.row;
+    }
+
+    @Override
+    public int hashCode()
+    {
+        return 31 * (31 * System.identityHashCode(board) + col) + row;
+    }
+}
@@ -0,0 +1,43 @@
+package com.textris.model;
+
+/**
+ * This enum defines the intents the player can send to the game loop.
+ *
+ * The UI never changes the board itself: it submits one of these to the
+ * GameLoop, which carries it out on the game thread.
+ *
+ * Responsibilities:
+ * - Define the player's moves
+ *
+ * Collaborators:
+ * - GameLoop
+ * - InputHandler
+ */
+public enum GameCommand
+{
+    /**
+     * Move the falling block one column left.
+     */
+    MOVE_LEFT,
+
+    /**
+     * Move the falling block one column right.
+     */
+    MOVE_RIGHT,
+
+    /**
+     * Move the falling block one row down.
+     */
+    MOVE_DOWN,
+
+    /**
+     * Drop the falling block straight to where it lands.
+     */
+    HARD_DROP,
+
+    /**
+     * Take back the last block that landed without clearing a word. The
+     * falling block starts again from the top.
+     */
+    UNDO
+}
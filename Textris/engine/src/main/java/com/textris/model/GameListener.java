@@ -0,0 +1,111 @@
+package com.textris.model;
+
+import java.util.List;
+
+/**
+ * Receives the events of a game so a front end can show them.
+ *
+ * The engine never draws anything itself; it reports what changed through
+ * this interface and carries on. Every method is called on the game thread,
+ * in the order the changes happened, and should return quickly: a front end
+ * hands the work to its own thread. Every method does nothing by default,
+ * so a listener only overrides the events it needs, and NONE runs the game
+ * headless.
+ *
+ * Responsibilities:
+ * - Reports the seed and upcoming letters of each game
+ * - Reports spawned, moved, fallen and cleared blocks
+ * - Reports score changes, board resets and the end of the game
+ *
+ * Collaborators:
+ * - GameLoop
+ * - GameBoard
+ */
+public interface GameListener {
+
+    /** A listener that ignores every event, for running without a front end. */
+    GameListener NONE = new GameListener() { };
+
+    /**
+     * Called when a game begins, with the seed its letters are dealt from.
+     * For the first game this is called by GameLoop.create(), on the thread
+     * creating the loop, once the loop is fully built.
+     *
+     * @param seed the game's seed
+     */
+    default void gameStarted(long seed) { }
+
+    /**
+     * Called when the upcoming letters change: at the start of a game and
+     * each time a letter is dealt. The queue may only be read during the
+     * call; copy what is needed, e.g. with preview().
+     *
+     * @param queue the game's letter queue
+     */
+    default void previewChanged(LetterQueue queue) { }
+
+    /**
+     * Called when a new block appears on the board.
+     *
+     * @param block the new block
+     * @param col the column it spawned in
+     * @param row the row it spawned in
+     */
+    default void blockSpawned(LetterBlock block, int col, int row) { }
+
+    /**
+     * Called when a block moves, by the player or by a tick.
+     *
+     * @param block the block that moved
+     * @param col its new column
+     * @param row its new row
+     */
+    default void blockMoved(LetterBlock block, int col, int row) { }
+
+    /**
+     * Called when gravity moves blocks outside of a cascade.
+     *
+     * @param moves the blocks that fell, all in one batch
+     */
+    default void blocksFell(List<GravityMove> moves) { }
+
+    /**
+     * Called when a landing cleared words. The board is already up to date;
+     * the listener may replay the waves, and must call onFinished once it is
+     * done so the next block drops. onFinished may be called from any thread.
+     *
+     * @param result the waves that were cleared
+     * @param onFinished resumes the game
+     */
+    default void cascadeResolved(CascadeResult result, Runnable onFinished) {
+        onFinished.run();
+    }
+
+    /**
+     * Called when the score changes.
+     *
+     * @param score the new score
+     */
+    default void scoreChanged(int score) { }
+
+    /**
+     * Called when the board is emptied for a new game.
+     */
+    default void boardCleared() { }
+
+    /**
+     * Called when an undo puts the board back to an earlier state: blocks
+     * may have disappeared and the falling block is back at the top. The
+     * listener redraws the whole board from the snapshot.
+     *
+     * @param board the board after the undo
+     */
+    default void boardRestored(BoardSnapshot board) { }
+
+    /**
+     * Called when a new block cannot spawn and the game has ended.
+     *
+     * @param score the final score
+     */
+    default void gameOver(int score) { }
+}
@@ -0,0 +1,440 @@
+/**
+ * Handles the state of the game.
+ *
+ * Only the game thread changes the board. Other threads, the FX thread
+ * included, submit commands that the game thread carries out, and read the
+ * board through the snapshot published after each change.
+ *
+ * The loop knows nothing about how the game is shown: everything a player
+ * would see is reported to a GameListener. With GameListener.NONE and step()
+ * the game runs headless, as fast as the CPU allows.
+ *
+ * Responsibilities:
+ * - Controls main game loop
+ * - Manages game state
+ * - Carries out queued commands on the game thread
+ * - Takes back blocks from the board history on undo
+ *
+ * Collaborators:
+ * - GameBoard
+ * - BoardHistory
+ * - GameCommand
+ * - GameListener
+ * - LetterGenerator
+ * - LetterQueue
+ * - CascadeResolver
+ * - FixedStepScheduler
+ * - Dictionary
+ *
+ * @author Cruz Shafer, Carrie Rochell
+ */
+package com.textris.model;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Creates and manages the game
+ * This includes spawning, moving, and locking blocks, as well as detecting words
+ * and updating the score.
+ */
+public class GameLoop {
+    // Set -Dtextris.debug=true to log seeds, words found and loop timings;
+    // otherwise read them through getSeed(), the listener and getScheduler()
+    private static final boolean DEBUG = Boolean.getBoolean("textris.debug");
+
+    private GameBoard board;
+    private Dictionary dictionary;
+    private LetterBlock current;
+    private LetterBlock previous;
+    private volatile int score;
+    private volatile boolean gameOver;
+
+    private final GameListener listener;
+    private volatile boolean boardBusy = false;
+    private boolean gameOn;
+    private final CascadeResolver resolver;
+    private final BoardHistory history = new BoardHistory(32);
+    private FixedStepScheduler scheduler; // set once by create(), never changed
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private volatile BoardSnapshot published;
+    private volatile LetterGenerator letters;
+    private LetterQueue queue;
+
+    /**
+     * Creates a GameLoop instance that controls game progression. The
+     * first game's seed comes from LetterGenerator.newSeed().
+     *
+     * @param board the grid of cells where blocks are placed
+     * @param dictionary dictionary used for validating formed words
+     * @param listener told about everything that changes, or null for none
+     * @return the game loop, stopped, with its first game dealt
+     */
+    public static GameLoop create(GameBoard board, Dictionary dictionary, GameListener listener) {
+        return create(board, dictionary, listener, LetterGenerator.newSeed());
+    }
+
+    /**
+     * Creates a GameLoop instance whose first game is dealt from a given
+     * seed, to replay it.
+     *
+     * The scheduler and the first game's events are set up here, after the
+     * loop is fully constructed, so neither the scheduler thread nor the
+     * listener can see a half-built loop.
+     *
+     * @param board the grid of cells where blocks are placed
+     * @param dictionary dictionary used for validating formed words
+     * @param listener told about everything that changes, or null for none
+     * @param seed the seed of the first game's letters
+     * @return the game loop, stopped, with its first game dealt
+     */
+    public static GameLoop create(GameBoard board, Dictionary dictionary, GameListener listener, long seed) {
+        GameLoop loop = new GameLoop(board, dictionary, listener);
+
+        // Tick rate can be changed with -Dtextris.tickMillis
+        loop.scheduler = new FixedStepScheduler("textris-game-loop", loop::drainCommands,
+                loop::tick, Long.getLong("textris.tickMillis", 500));
+        loop.startGame(seed);
+        return loop;
+    }
+
+    private GameLoop(GameBoard board, Dictionary dictionary, GameListener listener) {
+        this.board = board;
+        this.resolver = new CascadeResolver(board);
+        this.dictionary = dictionary;
+        this.previous = null;
+        this.score = 0;
+        this.gameOver = false;
+        this.listener = listener == null ? GameListener.NONE : listener;
+        this.board.setListener(this.listener);
+        this.published = board.snapshot();
+    }
+
+    private void startGame(long seed) {
+        letters = new LetterGenerator(seed);
+        queue = LetterQueue.fromProperties(letters);
+        if (DEBUG) System.out.println("Game seed: " + seed);
+        listener.gameStarted(seed);
+        listener.previewChanged(queue);
+    }
+
+    /**
+     * Returns the seed the current game's letters are dealt from.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return letters.getSeed();
+    }
+
+    /**
+     * Queues a player command. It is carried out on the game thread, which is
+     * woken so the move shows without waiting for the next tick. Safe to call
+     * from any thread.
+     *
+     * @param command the command to carry out
+     */
+    public void submit(GameCommand command) {
+        switch (command) {
+            case MOVE_LEFT -> enqueue(() -> moveCurrent(Direction.LEFT));
+            case MOVE_RIGHT -> enqueue(() -> moveCurrent(Direction.RIGHT));
+            case MOVE_DOWN -> enqueue(() -> moveCurrent(Direction.DOWN));
+            case HARD_DROP -> enqueue(this::hardDropCurrent);
+            case UNDO -> enqueue(this::undoBlock);
+        }
+    }
+
+    /**
+     * Runs one step on the calling thread, without the scheduler: carries out
+     * the queued commands, then ticks once. Headless runs call this in a loop
+     * instead of start(); never call it while the loop is started.
+     */
+    public void step() {
+        drainCommands();
+        tick();
+    }
+
+    /**
+     * Returns the board as of the last change made on the game thread, for
+     * renderers that draw the board rather than follow the listener's events.
+     * The snapshot never changes, so any thread may read it.
+     *
+     * @return the latest published board
+     */
+    public BoardSnapshot getPublishedBoard() {
+        return published;
+    }
+
+    private void enqueue(Runnable command) {
+        commands.add(command);
+        scheduler.wake();
+    }
+
+    /**
+     * Carries out every queued command, in order. Runs on the game thread.
+     */
+    private void drainCommands() {
+        Runnable command;
+        boolean ran = false;
+        while ((command = commands.poll()) != null) {
+            command.run();
+            ran = true;
+        }
+        if (ran) publish();
+    }
+
+    /**
+     * Publishes the board if it changed since the last snapshot. While a
+     * cascade is being shown the board stays published as the block landed;
+     * the cleared board follows once the listener finishes the cascade.
+     */
+    private void publish() {
+        if (boardBusy) return;
+        if (published.getHash() != board.getHash()) published = board.snapshot();
+    }
+
+    private void moveCurrent(Direction direction) {
+        if (current == null || gameOver || boardBusy) return;
+
+        // Once it rests on other blocks the block can no longer slide sideways
+        if (board.canMove(current, direction) && board.canMove(current, Direction.DOWN)) {
+            board.move(current, direction);
+        }
+    }
+
+    private void hardDropCurrent() {
+        if (current == null || gameOver || boardBusy) return;
+
+        if (board.canMove(current, Direction.DOWN)) {
+            board.hardDrop(current);
+        }
+    }
+
+    /**
+     * Takes back the last block that landed: the board goes back to the
+     * snapshot taken before that block spawned, and the falling block is
+     * placed at the top again. The history only reaches back to the last
+     * cascade, so points once scored are never taken back.
+     */
+    private void undoBlock() {
+        if (current == null || gameOver || boardBusy || history.size() < 2) return;
+
+        history.undo(); // the board as the falling block spawned
+        BoardSnapshot before = history.undo();
+        board.restore(before);
+
+        // Blocks keep their last position through a restore; put them back
+        for (int col = 0; col < board.getColCount(); col++) {
+            for (int row = 0; row < board.getRowCount(); row++) {
+                LetterBlock block = before.getBlock(col, row);
+                if (block != null) {
+                    block.setCol(col);
+                    block.setRow(row);
+                }
+            }
+        }
+
+        // The last block spawned on this board, so the spawn cell is free
+        history.record(before);
+        current.setRow(0);
+        current.setCol(board.getColCount() / 2);
+        board.placeBlock(current);
+
+        publish();
+        listener.boardRestored(published);
+    }
+
+    /**
+     * Called each tick to update the screen and move blocks.
+     * Handles both falling block movement and block placement.
+     */
+    public void tick() {
+        if (gameOver || boardBusy) return;
+
+        if (current == null) {
+            dropBlock();
+        } else if (board.canMove(current, Direction.DOWN)) {
+            board.move(current, Direction.DOWN);
+        } else {
+            setBlock();
+        }
+        publish();
+    }
+
+    /**
+     * Generates a new falling block at the top of the board.
+     * Also checks for game over conditions if a new block cannot be placed.
+     */
+    public void dropBlock() {
+        if (boardBusy) return;
+
+        int spawnRow = 0, spawnCol = board.getColCount() / 2;
+        boolean blocked = board.isSpawnBlocked(spawnCol, spawnRow);
+
+        if (!blocked) {
+            current = new LetterBlock(queue.pop());
+            listener.previewChanged(queue);
+            current.setRow(spawnRow);
+            current.setCol(spawnCol);
+
+            listener.blockSpawned(current, spawnCol, spawnRow);
+            history.record(board.snapshot());
+            blocked = !board.placeBlock(current);
+        }
+
+        if (blocked) {
+            if (DEBUG) System.out.println("GAME OVER");
+            current = null;
+            gameOver = true;
+            scheduler.stop();
+            if (DEBUG) {
+                System.out.println("Game loop " + scheduler.getTickDurations());
+                System.out.println("Game loop " + scheduler.getJitter() + ", dropped ticks: " + scheduler.getDroppedTicks());
+            }
+
+            listener.gameOver(score);
+        }
+    }
+
+    /**
+     * Starts a new game once the loop has stopped at game over. The board is
+     * reset on the game thread before the first tick. Safe to call from any
+     * thread.
+     */
+    public void restart() {
+        commands.add(this::reset);
+        start();
+    }
+
+    /**
+     * Locks a block in place once it reaches the bottom of the board or another block.
+     * Triggers word detection and gravity application.
+     */
+    public void setBlock() {
+        previous = current;
+        current = null;
+
+        boolean wordsFound = findWords();
+
+        if (!wordsFound) {
+            applyGravity();
+            dropBlock(); 
+        }
+    }
+
+    /**
+     * Applies gravity to cause any floating blocks to fall to the lowest empty space.
+     */
+    public void applyGravity() {
+        board.applyGravity();
+    }
+
+    /**
+     * Resolves the words formed by the most recently placed block, including
+     * any chain reaction caused by blocks falling into new words. The board is
+     * updated at once; the waves are then animated in one go before the next
+     * block drops.
+     * 
+     * @return true if a word was found
+     */
+    public boolean findWords() {
+        if (previous == null) return false;
+
+        board.markDirty(previous.getCol(), previous.getRow());
+        CascadeResult result = resolver.resolve();
+
+        if (result.isEmpty()) return false;
+
+        boardBusy = true;
+        history.clear(); // a block that scored cannot be taken back
+        if (DEBUG) {
+            for (CascadeResult.Wave wave : result.getWaves()) {
+                System.out.println("Found words = " + wave.words + " (x" + wave.multiplier + ")");
+            }
+        }
+
+        score += result.getPoints();
+        listener.scoreChanged(score);
+
+        listener.cascadeResolved(result, () -> enqueue(() -> {
+            boardBusy = false;
+            dropBlock();
+        }));
+
+        return true;
+    }
+
+    /**
+     * Returns the snapshots of the board taken as each recent block spawned,
+     * before it was placed, newest first. Undo takes blocks back from it.
+     * It is emptied whenever words are cleared.
+     *
+     * @return the board history
+     */
+    public BoardHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Returns the current player score.
+     * @return total score
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     * @return true if the game is over, false otherwise
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Resets the game state, clearing the board and score, and deals the new
+     * game from a new seed. Must run on the game thread, or while the loop is
+     * stopped.
+     */
+    public void reset() {
+        this.score = 0;
+        listener.scoreChanged(0);
+        this.current = null;
+        this.previous = null;
+        this.gameOver = false;
+        this.boardBusy = false;
+
+        board.clearBoard();
+        history.clear();
+        published = board.snapshot();
+        listener.boardCleared();
+        startGame(LetterGenerator.newSeed());
+
+        System.out.println("Game restarted!");
+    }
+
+    /**
+     * Starts the main game loop on a fixed-timestep scheduler.
+     * Continues running until the game ends; calling it again while the loop
+     * runs has no effect, so a restart never leaves two loops ticking.
+     */
+    public void start() {
+        scheduler.start();
+    }
+
+    /**
+     * Stops the main game loop. The tick in progress, if any, finishes first.
+     */
+    public void stop() {
+        scheduler.stop();
+    }
+
+    /**
+     * Returns the scheduler driving the loop, for its tick and jitter histograms.
+     *
+     * @return the scheduler
+     */
+    public FixedStepScheduler getScheduler() {
+        return scheduler;
+    }
+}
@@ -0,0 +1,121 @@
+package com.textris.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Plays whole games without a clock or a screen, for balancing.
+ *
+ * Each game is a real GameLoop driven headless with step(), so the
+ * simulator plays by exactly the rules the player does. Instead of a player,
+ * a PlacementPolicy picks a column whenever a block spawns; the simulator
+ * submits the moves toward it and a hard drop, as the keys would. The loop
+ * deals the game's letters from its seed exactly as it would for a player,
+ * and the policy's tie-breaks come from a stream split off a generator
+ * with the same seed, so a game is fully reproducible from its seed, and
+ * the same seed deals the same letters whatever the policy.
+ *
+ * A simulator reuses one board and is not thread-safe; give each thread its
+ * own, sharing the Dictionary and the policy.
+ *
+ * Responsibilities:
+ * - Plays one seeded game to the end under a placement policy
+ * - Records the game's score, length, words and letters in a report
+ *
+ * Collaborators:
+ * - GameLoop
+ * - GameListener
+ * - GameCommand
+ * - LetterGenerator
+ * - PlacementPolicy
+ * - SimulationReport
+ */
+public final class GameSimulator {
+
+    /** Games still running after this many blocks are stopped and counted as capped. */
+    public static final int MAX_BLOCKS = 10_000;
+
+    private final Dictionary dictionary;
+    private final GameBoard board;
+    private final PlacementPolicy policy;
+
+    /**
+     * Creates a simulator with its own board.
+     *
+     * @param dictionary the dictionary words are checked against
+     * @param cols the number of board columns
+     * @param rows the number of board rows
+     * @param policy the policy that places every block
+     */
+    public GameSimulator(Dictionary dictionary, int cols, int rows, PlacementPolicy policy) {
+        this.dictionary = dictionary;
+        this.board = new GameBoard(dictionary, cols, rows);
+        this.policy = policy;
+    }
+
+    /**
+     * Plays one game to the end and adds it to a report.
+     *
+     * @param seed the seed of the game's letters and tie-breaks
+     * @param report the report to add the game to
+     */
+    public void play(long seed, SimulationReport report) {
+        board.clearBoard();
+        Player player = new Player(new LetterGenerator(seed).split(), report);
+        GameLoop loop = GameLoop.create(board, dictionary, player, seed);
+        player.loop = loop;
+
+        while (!loop.isGameOver() && !player.capped) {
+            loop.step();
+        }
+
+        report.addGame(loop.getScore(), player.blocks, player.words, player.longestCascade, player.capped);
+    }
+
+    /**
+     * Plays the blocks of one game as they spawn and counts what happens.
+     * Runs on the thread calling step().
+     */
+    private final class Player implements GameListener {
+
+        private final SplittableRandom random;
+        private final SimulationReport report;
+        private GameLoop loop;
+        private int blocks;
+        private int words;
+        private int longestCascade;
+        private boolean capped;
+
+        Player(SplittableRandom random, SimulationReport report) {
+            this.random = random;
+            this.report = report;
+        }
+
+        @Override
+        public void blockSpawned(LetterBlock block, int col, int row) {
+            if (blocks == MAX_BLOCKS) {
+                capped = true;
+                return;
+            }
+            blocks++;
+            report.addSpawned(block.getLetter());
+
+            // The block is not on the board yet, as the policy expects
+            int target = policy.chooseColumn(board, block.getLetter(), random);
+            GameCommand move = target < col ? GameCommand.MOVE_LEFT : GameCommand.MOVE_RIGHT;
+            for (int step = Math.abs(target - col); step > 0; step--) {
+                loop.submit(move);
+            }
+            loop.submit(GameCommand.HARD_DROP);
+        }
+
+        @Override
+        public void cascadeResolved(CascadeResult result, Runnable onFinished) {
+            longestCascade = Math.max(longestCascade, result.getWaves().size());
+            for (CascadeResult.Wave wave : result.getWaves()) {
+                words += wave.words.size();
+                for (LetterBlock cleared : wave.cleared) report.addCleared(cleared.getLetter());
+            }
+            onFinished.run();
+        }
+    }
+}
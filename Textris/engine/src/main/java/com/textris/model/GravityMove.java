@@ -0,0 +1,47 @@
+package com.textris.model;
+
+/**
+ * One block falling from one row to another in the same column, as produced
+ * by a gravity pass. The board is already updated when a move is handed out;
+ * the renderer only has to apply it.
+ *
+ * Responsibilities:
+ * - Records which block fell and between which rows
+ *
+ * Collaborators:
+ * - GameBoard
+ * - GameListener
+ */
+public final class GravityMove {
+
+    /** The block that fell. */
+    public final LetterBlock block;
+
+    /** The row the block fell from. */
+    public final int fromRow;
+
+    /** The row the block landed on. */
+    public final int toRow;
+
+    /**
+     * Creates a move.
+     *
+     * @param block the block that fell
+     * @param fromRow the row it fell from
+     * @param toRow the row it landed on
+     */
+    public GravityMove(LetterBlock block, int fromRow, int toRow) {
+        this.block = block;
+        this.fromRow = fromRow;
+        this.toRow = toRow;
+    }
+
+    /**
+     * Returns the number of rows the block fell.
+     *
+     * @return the distance in rows
+     */
+    public int distance() {
+        return toRow - fromRow;
+    }
+}
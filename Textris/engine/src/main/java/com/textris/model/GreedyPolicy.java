@@ -0,0 +1,100 @@
+package com.textris.model;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+
+/**
+ * The GREEDY placement policy: tries the block in every column and sends it
+ * where its cascade scores the most, falling back to the lowest column when
+ * no column scores.
+ *
+ * Each trial's points are memoized in a TranspositionTable, keyed by the
+ * Zobrist hash of the board with the block landed plus the rows and columns
+ * waiting for a word scan, which together decide what the cascade clears.
+ * The key is worked out from the board before the block is placed, so a hit
+ * costs neither the placement nor the cascade. Tables are not thread-safe,
+ * so every thread gets its own, kept across the games it plays.
+ *
+ * Responsibilities:
+ * - Scores a trial landing in every column and picks the best
+ * - Reuses the score of a position it has already tried
+ *
+ * Collaborators:
+ * - PlacementPolicy
+ * - CascadeResolver
+ * - TranspositionTable
+ * - GameBoard
+ */
+public final class GreedyPolicy implements PlacementPolicy {
+
+    private final ThreadLocal<TranspositionTable> tables;
+
+    /**
+     * Creates the policy.
+     *
+     * @param capacity the least number of slots in each thread's table
+     */
+    GreedyPolicy(int capacity) {
+        this.tables = ThreadLocal.withInitial(() -> new TranspositionTable(capacity));
+    }
+
+    @Override
+    public int chooseColumn(GameBoard board, char letter, SplittableRandom random) {
+        TranspositionTable table = tables.get();
+        char key = Character.toLowerCase(letter);
+        int best = -1;
+        int bestPoints = 0;
+        BoardSnapshot before = board.snapshot();
+        CascadeResolver resolver = null;
+
+        for (int col = 0; col < board.getColCount(); col++) {
+            if (board.getHeight(col) == board.getRowCount()) continue; // full column
+            int row = board.landingRow(col);
+
+            long position = board.getHash() ^ GameBoard.zobristKey(col, row, key) ^ pending(before, col, row);
+            int points = (int) table.probe(position, -1);
+            if (points < 0) {
+                LetterBlock trial = new LetterBlock(letter);
+                trial.setCol(col);
+                trial.setRow(row);
+                board.placeBlock(trial);
+                board.markDirty(col, row);
+                if (resolver == null) resolver = new CascadeResolver(board);
+                points = resolver.resolve().getPoints();
+                board.restore(before);
+                table.store(position, points);
+            }
+
+            if (points > bestPoints) {
+                best = col;
+                bestPoints = points;
+            }
+        }
+        return best >= 0 ? best : PlacementPolicy.LOWEST.chooseColumn(board, letter, random);
+    }
+
+    /**
+     * Returns the calling thread's table, for its hit rate.
+     *
+     * @return the table
+     */
+    public TranspositionTable getTable() {
+        return tables.get();
+    }
+
+    /**
+     * Hashes the rows and columns a scan would look at after a landing in a
+     * cell: the ones already waiting, plus the landing row and column.
+     */
+    private static long pending(BoardSnapshot before, int col, int row) {
+        BitSet rows = (BitSet) before.dirtyRows.clone();
+        BitSet cols = (BitSet) before.dirtyCols.clone();
+        rows.set(row);
+        cols.set(col);
+
+        long z = (rows.hashCode() * 0x9E3779B97F4A7C15L) ^ cols.hashCode();
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,121 @@
+package com.textris.model;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds with power-of-two buckets.
+ *
+ * Bucket i counts durations in [2^(i-1), 2^i) ns, so percentiles are accurate
+ * to within a factor of two, which is enough to tell a 1 ms tick from a 50 ms
+ * stall. One thread can record while others read.
+ *
+ * Responsibilities:
+ * - Records durations
+ * - Reports count, mean, max and approximate percentiles
+ *
+ * Collaborators:
+ * - FixedStepScheduler
+ */
+public final class LatencyHistogram {
+
+    private static final int BUCKETS = 64;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Creates an empty histogram.
+     *
+     * @param name the name shown in the summary
+     */
+    public LatencyHistogram(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records one duration. Negative durations are recorded as zero.
+     *
+     * @param nanos the duration in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(64 - Long.numberOfLeadingZeros(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded durations.
+     *
+     * @return the count
+     */
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * Returns the longest recorded duration.
+     *
+     * @return the maximum in nanoseconds
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the mean recorded duration.
+     *
+     * @return the mean in nanoseconds
+     */
+    public double getMean() {
+        long n = count.get();
+        return n == 0 ? 0 : (double) total.get() / n;
+    }
+
+    /**
+     * Returns an upper bound for a percentile: the top of the bucket in which
+     * that share of the durations falls.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the duration in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+        long n = count.get();
+        if (n == 0) return 0;
+
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) return i == 0 ? 0 : Math.min((1L << i) - 1, max.get());
+        }
+        return max.get();
+    }
+
+    /**
+     * Clears all recorded durations.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    /**
+     * Returns a one-line summary in milliseconds.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: n=%d mean=%.2f ms p50<=%.2f ms p99<=%.2f ms max=%.2f ms",
+                name, getCount(), getMean() / 1e6, getPercentile(50) / 1e6,
+                getPercentile(99) / 1e6, getMax() / 1e6);
+    }
+}
@@ -1,43 +1,28 @@
 package com.textris.model;
 
-import com.textris.media.Block;
-import com.textris.storage.LetterWeights;
-import java.util.Random;
-
 /**
  * This class represents a block containing a letter.
  *
+ * A LetterBlock is pure game state; a front end keeps its own sprite for each
+ * block it is told about through GameListener.
+ *
  * Responsibilities:
- * - Generates Random weighted letter blocks from all letters of the alphabet
+ * - Holds a letter and its position on the board
  *
  * Collaborators:
- * - LetterWeights
+ * - LetterGenerator
  */
 public class LetterBlock 
 {
     private final char letter;
     private int row;
     private int col;
-    private Block block;
-
-    /**
-     * Generates a letter based on the weights of letters carried in LetterWeights. Only called on construction.
-     */
-    public LetterBlock() 
-    {
-        Random generator = new Random();
-
-        int randomInt = generator.nextInt(LetterWeights.getUpperBound());
 
-        letter = LetterWeights.getLetter(randomInt);
-
-        this.block = new Block(letter);
-    }
-    
     /**
-     * Overloaded parameter that initiates a placeholder LetterBlock
+     * Creates a block holding a letter. New game blocks get their letter
+     * from the game's LetterGenerator; a letter of 0 makes a placeholder.
      * 
-     * @param code if 0, exists as a placeholder block. otherwise useless
+     * @param code the letter, or 0 for a placeholder block
      */
     public LetterBlock(char code) 
     {
@@ -88,13 +73,4 @@ public class LetterBlock
     public void setCol(int col) {
         this.col = col;
     }
-
-    /**
-     * Gets the block UI element stored by the LetterBlock.
-     *
-     * @return the block UI element
-     */
-    public Block getBlock() {
-        return this.block;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.textris.model;
+
+import com.textris.storage.LetterTable;
+import com.textris.storage.LetterWeights;
+
+import java.util.SplittableRandom;
+
+/**
+ * Draws the weighted letters of one game from a seeded random stream.
+ *
+ * Each game owns its generator, so drawing a letter is one step of an
+ * unshared SplittableRandom: no allocation and no contended seed. The same
+ * seed (and letter weights) always gives the same letters, so any game can
+ * be replayed from the seed shown on screen.
+ *
+ * Other random choices of a game, such as a simulated player's tie-breaks,
+ * take a split() stream so they never shift the letter sequence. Batches of
+ * games derive each game's seed with gameSeed(), giving independent streams
+ * without any shared state.
+ *
+ * Not thread-safe; one generator per game.
+ *
+ * Responsibilities:
+ * - Generates weighted letters and letter blocks from a seed
+ * - Derives independent seeds and streams for other uses
+ *
+ * Collaborators:
+ * - LetterWeights
+ * - LetterBlock
+ * - GameLoop
+ * - GameSimulator
+ */
+public final class LetterGenerator {
+
+    private final long seed;
+    private final SplittableRandom random;
+    private long splits; // streams split off so far
+
+    /**
+     * Creates a generator for one game.
+     *
+     * @param seed the game's seed
+     */
+    public LetterGenerator(long seed) {
+        this.seed = seed;
+        this.random = new SplittableRandom(seed);
+    }
+
+    /**
+     * Returns a seed for a new game: the value of -Dtextris.seed if it is
+     * set, so a game can be replayed, otherwise a random one.
+     *
+     * @return the seed
+     */
+    public static long newSeed() {
+        Long fixed = Long.getLong("textris.seed");
+        return fixed != null ? fixed : new SplittableRandom().nextLong();
+    }
+
+    /**
+     * Derives the seed of one game of a batch, so each game of a parallel
+     * run gets an independent stream whichever thread plays it.
+     *
+     * @param seed the batch seed
+     * @param game the index of the game in the batch
+     * @return the game's seed
+     */
+    public static long gameSeed(long seed, long game) {
+        // SplitMix64 finalizer; neighbouring indexes give unrelated seeds
+        long z = seed + game * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * Returns the seed this generator was created with.
+     *
+     * @return the seed
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Draws the next letter, weighted by the active LetterTable.
+     *
+     * @return the letter
+     */
+    public char nextLetter() {
+        LetterTable table = LetterWeights.getTable();
+        return table.getLetter(random.nextInt(table.getUpperBound()));
+    }
+
+    /**
+     * Creates a block holding the next letter.
+     *
+     * @return the new block
+     */
+    public LetterBlock nextBlock() {
+        return new LetterBlock(nextLetter());
+    }
+
+    /**
+     * Splits off an independent random stream for the game's other choices.
+     * The stream is derived from the seed and the number of earlier splits,
+     * not drawn from the letter stream, so splitting never changes the
+     * letters dealt after it.
+     *
+     * @return a new stream that shares no state with this generator
+     */
+    public SplittableRandom split() {
+        return new SplittableRandom(gameSeed(~seed, ++splits));
+    }
+}
@@ -0,0 +1,154 @@
+package com.textris.model;
+
+/**
+ * The letters a game will deal next, generated ahead of time into a fixed
+ * ring buffer so they can be previewed.
+ *
+ * The ring always holds the next getPreviewSize() letters. pop() hands out
+ * the oldest and draws one more into its slot, so dealing a letter is a
+ * ring-buffer step and one generator draw, with no allocation.
+ *
+ * In bag mode the queue bounds vowel droughts: once maxDrought letters in a
+ * row have had no vowel, the next letter is drawn again until it is one.
+ * Vowels keep their relative weights, and the queue stays reproducible from
+ * the generator's seed.
+ *
+ * Not thread-safe; owned by the game thread. Listeners read it only while
+ * they are being told it changed.
+ *
+ * Responsibilities:
+ * - Pre-generates and previews upcoming letters
+ * - Optionally bounds the number of letters between vowels
+ *
+ * Collaborators:
+ * - LetterGenerator
+ * - GameLoop
+ * - GameSimulator
+ */
+public final class LetterQueue {
+
+    /** Letters previewed when -Dtextris.preview is not set. */
+    public static final int DEFAULT_PREVIEW = 3;
+
+    /** Longest vowel drought in bag mode when -Dtextris.vowelDrought is not set. */
+    public static final int DEFAULT_MAX_DROUGHT = 4;
+
+    // Draws a vowel almost surely (vowels are over a third of the weight); the cap
+    // only guards against a letter table without vowels
+    private static final int MAX_REDRAWS = 64;
+
+    private final LetterGenerator generator;
+    private final char[] ring;
+    private final int maxDrought;
+    private int head;     // slot of the next letter dealt
+    private int drought;  // letters in a row without a vowel, up to the newest queued
+
+    /**
+     * Creates a queue configured from the system properties: -Dtextris.preview
+     * for the preview size, and -Dtextris.letterBag=true to bound vowel
+     * droughts to -Dtextris.vowelDrought letters.
+     *
+     * @param generator the game's letter generator
+     * @return the queue, already filled
+     */
+    public static LetterQueue fromProperties(LetterGenerator generator) {
+        int preview = Integer.getInteger("textris.preview", DEFAULT_PREVIEW);
+        int maxDrought = Boolean.getBoolean("textris.letterBag")
+                ? Integer.getInteger("textris.vowelDrought", DEFAULT_MAX_DROUGHT) : 0;
+        return new LetterQueue(generator, preview, maxDrought);
+    }
+
+    /**
+     * Creates a queue and fills it.
+     *
+     * @param generator the game's letter generator
+     * @param preview the number of upcoming letters to keep
+     * @param maxDrought the most letters in a row without a vowel, or 0 for
+     *                   plain weighted letters
+     * @throws IllegalArgumentException if preview is not positive or maxDrought is negative
+     */
+    public LetterQueue(LetterGenerator generator, int preview, int maxDrought) {
+        if (preview <= 0) throw new IllegalArgumentException("preview must be positive");
+        if (maxDrought < 0) throw new IllegalArgumentException("maxDrought must not be negative");
+        this.generator = generator;
+        this.ring = new char[preview];
+        this.maxDrought = maxDrought;
+        for (int i = 0; i < preview; i++) ring[i] = draw();
+    }
+
+    /**
+     * Deals the next letter and queues a new one behind the preview.
+     *
+     * @return the letter
+     */
+    public char pop() {
+        char letter = ring[head];
+        ring[head] = draw();
+        head = head + 1 == ring.length ? 0 : head + 1;
+        return letter;
+    }
+
+    /**
+     * Returns an upcoming letter without dealing it.
+     *
+     * @param index 0 for the next letter, up to getPreviewSize() - 1
+     * @return the letter
+     * @throws IndexOutOfBoundsException if index is outside the preview
+     */
+    public char peek(int index) {
+        if (index < 0 || index >= ring.length) throw new IndexOutOfBoundsException(index);
+        int slot = head + index;
+        return ring[slot < ring.length ? slot : slot - ring.length];
+    }
+
+    /**
+     * Returns the number of letters previewed.
+     *
+     * @return the preview size
+     */
+    public int getPreviewSize() {
+        return ring.length;
+    }
+
+    /**
+     * Returns whether vowel droughts are bounded.
+     *
+     * @return true in bag mode
+     */
+    public boolean isBagMode() {
+        return maxDrought > 0;
+    }
+
+    /**
+     * Returns the upcoming letters, next first.
+     *
+     * @return the preview
+     */
+    public String preview() {
+        StringBuilder letters = new StringBuilder(ring.length);
+        for (int i = 0; i < ring.length; i++) letters.append(peek(i));
+        return letters.toString();
+    }
+
+    private char draw() {
+        char letter = generator.nextLetter();
+        if (maxDrought > 0 && drought >= maxDrought) {
+            for (int i = 0; i < MAX_REDRAWS && !isVowel(letter); i++) letter = generator.nextLetter();
+        }
+        drought = isVowel(letter) ? 0 : drought + 1;
+        return letter;
+    }
+
+    /**
+     * Returns whether a letter is a vowel (a, e, i, o or u).
+     *
+     * @param letter the letter
+     * @return true for a vowel
+     */
+    public static boolean isVowel(char letter) {
+        switch (Character.toLowerCase(letter)) {
+            case 'a': case 'e': case 'i': case 'o': case 'u': return true;
+            default: return false;
+        }
+    }
+}
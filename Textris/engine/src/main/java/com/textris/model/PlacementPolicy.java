@@ -0,0 +1,80 @@
+package com.textris.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Decides where a simulated player sends each new block.
+ *
+ * A policy sees the board as it is when the block spawns and names the
+ * column it would like the block to land in; GameSimulator then moves the
+ * block there as far as the rules allow and drops it. A policy may try
+ * moves on the board, as long as it puts the board back the way it found
+ * it (snapshot() and restore() make that cheap). One policy instance may be
+ * used by several threads at once, so built-in policies keep no state that
+ * threads share.
+ *
+ * Responsibilities:
+ * - Chooses the target column for a block
+ * - Provides the built-in RANDOM, LOWEST and GREEDY policies
+ *
+ * Collaborators:
+ * - GameSimulator
+ * - GameBoard
+ * - GreedyPolicy
+ */
+public interface PlacementPolicy {
+
+    /** Sends every block to a column picked at random. */
+    PlacementPolicy RANDOM = (board, letter, random) -> random.nextInt(board.getColCount());
+
+    /** Sends every block to the lowest column, picking at random among ties. */
+    PlacementPolicy LOWEST = (board, letter, random) -> lowestColumn(board, random);
+
+    /**
+     * Tries the block in every column and sends it where its cascade scores
+     * the most, falling back to LOWEST when no column scores. Scores are
+     * memoized per thread in a TranspositionTable of 16384 slots.
+     */
+    GreedyPolicy GREEDY = new GreedyPolicy(1 << 14);
+
+    /**
+     * Chooses the column the block should land in.
+     *
+     * @param board the board, with the new block not yet placed
+     * @param letter the letter of the new block
+     * @param random the game's random stream, for tie-breaks
+     * @return the target column
+     */
+    int chooseColumn(GameBoard board, char letter, SplittableRandom random);
+
+    /**
+     * Looks up a built-in policy by name, ignoring case.
+     *
+     * @param name RANDOM, LOWEST or GREEDY
+     * @return the policy
+     * @throws IllegalArgumentException if there is no such policy
+     */
+    static PlacementPolicy named(String name) {
+        switch (name.toUpperCase()) {
+            case "RANDOM": return RANDOM;
+            case "LOWEST": return LOWEST;
+            case "GREEDY": return GREEDY;
+            default: throw new IllegalArgumentException("Unknown placement policy: " + name);
+        }
+    }
+
+    private static int lowestColumn(GameBoard board, SplittableRandom random) {
+        int best = 0;
+        int ties = 0;
+        for (int col = 0; col < board.getColCount(); col++) {
+            int height = board.getHeight(col);
+            if (col == 0 || height < board.getHeight(best)) {
+                best = col;
+                ties = 1;
+            } else if (height == board.getHeight(best) && random.nextInt(++ties) == 0) {
+                best = col; // reservoir pick among equally low columns
+            }
+        }
+        return best;
+    }
+}
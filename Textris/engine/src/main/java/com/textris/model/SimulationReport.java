@@ -0,0 +1,199 @@
+package com.textris.model;
+
+/**
+ * Totals of a batch of simulated games: scores, game lengths, words and
+ * letter usage.
+ *
+ * A report is filled by one thread. Parallel runs give each worker its own
+ * report and merge them at the end, so no counter is ever shared.
+ *
+ * Responsibilities:
+ * - Accumulates per-game results and letter counts
+ * - Merges with other reports
+ * - Formats the totals as a readable report
+ *
+ * Collaborators:
+ * - GameSimulator
+ */
+public final class SimulationReport {
+
+    private static final int LETTERS = 26;
+
+    private long games;
+    private long cappedGames;
+    private long totalScore;
+    private double totalScoreSquared;
+    private int minScore = Integer.MAX_VALUE;
+    private int maxScore;
+    private long totalBlocks;
+    private int maxBlocks;
+    private long totalWords;
+    private int longestCascade;
+    private final long[] spawned = new long[LETTERS];
+    private final long[] cleared = new long[LETTERS];
+
+    /**
+     * Records the result of one finished game.
+     *
+     * @param score the final score
+     * @param blocks the number of blocks spawned
+     * @param words the number of words cleared
+     * @param cascade the most waves cleared by a single landing
+     * @param capped true if the game was stopped at the block limit instead of ending
+     */
+    public void addGame(int score, int blocks, int words, int cascade, boolean capped) {
+        games++;
+        if (capped) cappedGames++;
+        totalScore += score;
+        totalScoreSquared += (double) score * score;
+        minScore = Math.min(minScore, score);
+        maxScore = Math.max(maxScore, score);
+        totalBlocks += blocks;
+        maxBlocks = Math.max(maxBlocks, blocks);
+        totalWords += words;
+        longestCascade = Math.max(longestCascade, cascade);
+    }
+
+    /**
+     * Counts a spawned letter.
+     *
+     * @param letter the letter
+     */
+    public void addSpawned(char letter) {
+        int index = indexOf(letter);
+        if (index >= 0) spawned[index]++;
+    }
+
+    /**
+     * Counts a letter cleared as part of a word.
+     *
+     * @param letter the letter
+     */
+    public void addCleared(char letter) {
+        int index = indexOf(letter);
+        if (index >= 0) cleared[index]++;
+    }
+
+    /**
+     * Adds another report's totals to this one.
+     *
+     * @param other the report to add
+     */
+    public void merge(SimulationReport other) {
+        games += other.games;
+        cappedGames += other.cappedGames;
+        totalScore += other.totalScore;
+        totalScoreSquared += other.totalScoreSquared;
+        minScore = Math.min(minScore, other.minScore);
+        maxScore = Math.max(maxScore, other.maxScore);
+        totalBlocks += other.totalBlocks;
+        maxBlocks = Math.max(maxBlocks, other.maxBlocks);
+        totalWords += other.totalWords;
+        longestCascade = Math.max(longestCascade, other.longestCascade);
+        for (int i = 0; i < LETTERS; i++) {
+            spawned[i] += other.spawned[i];
+            cleared[i] += other.cleared[i];
+        }
+    }
+
+    /**
+     * Returns the number of games recorded.
+     *
+     * @return the game count
+     */
+    public long getGames() {
+        return games;
+    }
+
+    /**
+     * Returns the mean final score.
+     *
+     * @return the mean score
+     */
+    public double getMeanScore() {
+        return games == 0 ? 0 : (double) totalScore / games;
+    }
+
+    /**
+     * Returns the standard deviation of the final scores.
+     *
+     * @return the standard deviation
+     */
+    public double getScoreStdDev() {
+        if (games == 0) return 0;
+        double mean = getMeanScore();
+        return Math.sqrt(Math.max(totalScoreSquared / games - mean * mean, 0));
+    }
+
+    /**
+     * Returns the mean number of blocks spawned per game.
+     *
+     * @return the mean game length in blocks
+     */
+    public double getMeanBlocks() {
+        return games == 0 ? 0 : (double) totalBlocks / games;
+    }
+
+    /**
+     * Returns the mean number of words cleared per game.
+     *
+     * @return the mean word count
+     */
+    public double getMeanWords() {
+        return games == 0 ? 0 : (double) totalWords / games;
+    }
+
+    /**
+     * Returns how many times a letter was spawned.
+     *
+     * @param letter the letter
+     * @return the count
+     */
+    public long getSpawned(char letter) {
+        int index = indexOf(letter);
+        return index < 0 ? 0 : spawned[index];
+    }
+
+    /**
+     * Returns how many times a letter was cleared as part of a word.
+     *
+     * @param letter the letter
+     * @return the count
+     */
+    public long getCleared(char letter) {
+        int index = indexOf(letter);
+        return index < 0 ? 0 : cleared[index];
+    }
+
+    /**
+     * Returns the totals as a multi-line report, with a row per letter
+     * showing how often it spawned and what share of those were used in words.
+     *
+     * @return the report
+     */
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("games            %d (%d stopped at the block limit)%n", games, cappedGames));
+        out.append(String.format("score            mean %.1f  sd %.1f  min %d  max %d%n",
+                getMeanScore(), getScoreStdDev(), games == 0 ? 0 : minScore, maxScore));
+        out.append(String.format("blocks per game  mean %.1f  max %d%n", getMeanBlocks(), maxBlocks));
+        out.append(String.format("words per game   mean %.2f  longest cascade %d waves%n",
+                getMeanWords(), longestCascade));
+        out.append(String.format("%-6s %8s %12s %8s%n", "letter", "share", "spawned", "used"));
+
+        long allSpawned = 0;
+        for (long count : spawned) allSpawned += count;
+        for (int i = 0; i < LETTERS; i++) {
+            out.append(String.format("%-6c %7.2f%% %12d %7.1f%%%n", (char) ('a' + i),
+                    allSpawned == 0 ? 0 : 100.0 * spawned[i] / allSpawned, spawned[i],
+                    spawned[i] == 0 ? 0 : 100.0 * cleared[i] / spawned[i]));
+        }
+        return out.toString();
+    }
+
+    private static int indexOf(char letter) {
+        int index = Character.toLowerCase(letter) - 'a';
+        return index >= 0 && index < LETTERS ? index : -1;
+    }
+}
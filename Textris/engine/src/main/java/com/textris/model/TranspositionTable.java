@@ -0,0 +1,139 @@
+package com.textris.model;
+
+import java.util.Arrays;
+
+/**
+ * A fixed-size cache of evaluations keyed by a board's Zobrist hash, so a
+ * search that reaches the same position twice can reuse the first result.
+ *
+ * The table is direct-mapped: each hash has one slot, and storing into an
+ * occupied slot replaces whatever was there. The full hash is kept in the slot
+ * and checked on lookup, so a replaced entry reads as a miss, never as a
+ * wrong value. Lookups are counted so the hit rate can be tuned against the
+ * table size.
+ *
+ * Not thread-safe; give each search thread its own table.
+ *
+ * Responsibilities:
+ * - Stores and looks up a value per board hash within a fixed memory budget
+ * - Counts hits and misses
+ *
+ * Collaborators:
+ * - GameBoard
+ * - GreedyPolicy
+ */
+public final class TranspositionTable {
+
+    private final long[] hashes;
+    private final double[] values;
+    private final boolean[] used;
+    private final int mask;
+
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty table.
+     *
+     * @param capacity the least number of slots; rounded up to a power of two
+     */
+    public TranspositionTable(int capacity) {
+        int size = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        this.hashes = new long[size];
+        this.values = new double[size];
+        this.used = new boolean[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Looks up the value stored for a hash.
+     *
+     * @param hash the board hash
+     * @param missing the value to return on a miss
+     * @return the stored value, or missing
+     */
+    public double probe(long hash, double missing) {
+        int slot = slot(hash);
+        if (used[slot] && hashes[slot] == hash) {
+            hits++;
+            return values[slot];
+        }
+        misses++;
+        return missing;
+    }
+
+    /**
+     * Stores a value for a hash, replacing whatever shared its slot.
+     *
+     * @param hash the board hash
+     * @param value the value to store
+     */
+    public void store(long hash, double value) {
+        int slot = slot(hash);
+        hashes[slot] = hash;
+        values[slot] = value;
+        used[slot] = true;
+    }
+
+    /**
+     * Returns the number of lookups that found a value.
+     *
+     * @return the hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Returns the number of lookups that found nothing.
+     *
+     * @return the miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Returns the share of lookups that found a value.
+     *
+     * @return the hit rate between 0 and 1
+     */
+    public double getHitRate() {
+        long total = hits + misses;
+        return total == 0 ? 0 : (double) hits / total;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int capacity() {
+        return hashes.length;
+    }
+
+    /**
+     * Empties the table and resets the counters.
+     */
+    public void clear() {
+        Arrays.fill(used, false);
+        hits = 0;
+        misses = 0;
+    }
+
+    /**
+     * Returns a one-line summary of the counters.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%d slots, %d hits, %d misses (%.1f%% hit rate)",
+                hashes.length, hits, misses, getHitRate() * 100);
+    }
+
+    private int slot(long hash) {
+        // The low bits of a Zobrist hash are already uniform
+        return (int) hash & mask;
+    }
+}
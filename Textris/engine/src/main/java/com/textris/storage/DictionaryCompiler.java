@@ -0,0 +1,148 @@
+package com.textris.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+/**
+ * Compiles a plain text word list into the binary dictionary format.
+ *
+ * The Maven build runs this during process-classes to turn Twordlist.txt into
+ * Twordlist.bin, so the game can load its dictionary with one bulk read.
+ *
+ * Every index the game builds works on packed keys, so words longer than
+ * {@link PackedWordSet#MAX_LENGTH} letters cannot be part of a dictionary.
+ * They are dropped here, for the build, hot reloads and language packs alike,
+ * and the number dropped is logged with a few examples.
+ *
+ * Format (big-endian):
+ * - int magic ({@link #MAGIC})
+ * - int format version ({@link #VERSION})
+ * - int key count
+ * - key count longs: packed words (see PackedWordSet), sorted and deduplicated
+ *
+ * Responsibilities:
+ * - Turns word list text into sorted, deduplicated packed keys
+ * - Writes and describes the binary dictionary format
+ *
+ * Collaborators:
+ * - PackedWordSet
+ * - LoadDictionary
+ */
+public class DictionaryCompiler {
+
+    /** Identifies a compiled dictionary file ("TXDX"). */
+    public static final int MAGIC = 0x54584458;
+
+    /** Current version of the binary format. */
+    public static final int VERSION = 1;
+
+    /** Size of the header in bytes. */
+    public static final int HEADER_BYTES = 12;
+
+    // Only static helpers
+    private DictionaryCompiler() {
+    }
+
+    /**
+     * Compiles a word list file into a binary dictionary file.
+     *
+     * @param args the input word list and the output file
+     * @throws IOException if either file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: DictionaryCompiler <wordlist.txt> <dictionary.bin>");
+            return;
+        }
+
+        Path in = Paths.get(args[0]);
+        Path out = Paths.get(args[1]);
+
+        long[] keys;
+        try (BufferedReader reader = Files.newBufferedReader(in, StandardCharsets.UTF_8)) {
+            keys = compile(reader);
+        }
+
+        if (out.getParent() != null) Files.createDirectories(out.getParent());
+        try (OutputStream stream = Files.newOutputStream(out)) {
+            write(keys, stream);
+        }
+
+        System.out.println("Compiled " + keys.length + " words from " + in + " into " + out);
+    }
+
+    /**
+     * Reads one word per line and returns the sorted, deduplicated packed keys.
+     * Blank lines are skipped. Words longer than {@link PackedWordSet#MAX_LENGTH}
+     * letters and lines with characters other than a-z are skipped and logged.
+     *
+     * @param reader the word list
+     * @return the packed keys in ascending order
+     * @throws IOException if the word list cannot be read
+     */
+    public static long[] compile(BufferedReader reader) throws IOException {
+        long[] keys = new long[1024];
+        int count = 0;
+        int tooLong = 0;
+        int notWords = 0;
+        StringBuilder examples = new StringBuilder();
+
+        String line = reader.readLine();
+        while (line != null) {
+            String word = line.trim();
+            long key = PackedWordSet.pack(word);
+            if (key != PackedWordSet.INVALID) {
+                if (count == keys.length) keys = Arrays.copyOf(keys, count * 2);
+                keys[count++] = key;
+            } else if (word.length() > PackedWordSet.MAX_LENGTH) {
+                if (tooLong++ < 3) examples.append(tooLong == 1 ? "" : ", ").append(word);
+            } else if (!word.isEmpty()) {
+                notWords++;
+            }
+            line = reader.readLine();
+        }
+
+        if (tooLong > 0) {
+            System.out.println("Skipped " + tooLong + " words longer than " + PackedWordSet.MAX_LENGTH
+                    + " letters (" + examples + (tooLong > 3 ? ", ..." : "") + ")");
+        }
+        if (notWords > 0) {
+            System.out.println("Skipped " + notWords + " lines that are not plain a-z words");
+        }
+
+        Arrays.sort(keys, 0, count);
+
+        int unique = 0;
+        for (int i = 0; i < count; i++) {
+            if (unique == 0 || keys[unique - 1] != keys[i]) keys[unique++] = keys[i];
+        }
+
+        return Arrays.copyOf(keys, unique);
+    }
+
+    /**
+     * Writes sorted keys in the binary dictionary format.
+     *
+     * @param keys the packed keys, sorted and deduplicated
+     * @param out the stream to write to
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(long[] keys, OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+        data.writeInt(keys.length);
+        for (long key : keys) {
+            data.writeLong(key);
+        }
+        data.flush();
+    }
+}
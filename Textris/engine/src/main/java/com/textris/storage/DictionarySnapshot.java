@@ -0,0 +1,196 @@
+package com.textris.storage;
+
+/**
+ * One immutable, versioned copy of a loaded word list together with every
+ * index built from it.
+ *
+ * LoadDictionary publishes the current snapshot through a single atomic
+ * reference. A reload builds a new snapshot off to the side and swaps it in,
+ * so a caller that grabbed a snapshot keeps a consistent view until it is done
+ * with it, and no lookup ever waits on a reload.
+ *
+ * Responsibilities:
+ * - Holds the packed word set for one word list
+ * - Builds the trie index and the full-line word scanner the first time each
+ *   is asked for, so loading a word list costs only the hash set
+ * - Answers word, prefix and suffix queries against that word list
+ *
+ * Collaborators:
+ * - LoadDictionary
+ * - PackedWordSet
+ * - WordTrie
+ * - WordScanner
+ */
+public final class DictionarySnapshot {
+
+    private final long version;
+    private final String source;
+    private final int size;
+    private final PackedWordSet packed;
+    private final long[] keys; // kept to build the trie and scanner on demand
+    private volatile WordTrie index;
+    private volatile WordScanner scanner;
+
+    private DictionarySnapshot(long version, String source, long[] keys,
+                               PackedWordSet packed) {
+        this.version = version;
+        this.source = source;
+        this.size = keys.length;
+        this.keys = keys;
+        this.packed = packed;
+    }
+
+    /**
+     * Builds a snapshot from sorted packed keys. Only the word set is built
+     * here; the trie and scanner wait until they are first used.
+     *
+     * @param keys the packed word keys
+     * @param source where the words came from, for logging
+     * @param version the version number of the snapshot
+     * @return the snapshot
+     */
+    public static DictionarySnapshot build(long[] keys, String source, long version) {
+        return new DictionarySnapshot(version, source, keys,
+                PackedWordSet.fromKeys(keys, keys.length));
+    }
+
+    /**
+     * Checks if a word is in this snapshot.
+     *
+     * @param word the word to check
+     * @return true if the word is present
+     */
+    public boolean isValid(String word) {
+        return findKey(PackedWordSet.pack(word));
+    }
+
+    /**
+     * Checks if buf[off, off + len) is a word without creating a String.
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if the characters spell a word
+     */
+    public boolean isValid(char[] buf, int off, int len) {
+        return findKey(PackedWordSet.pack(buf, off, len));
+    }
+
+    /**
+     * Checks if any word starts with the given prefix.
+     *
+     * @param prefix the prefix to check
+     * @return true if at least one word starts with prefix
+     */
+    public boolean isPrefix(String prefix) {
+        return getIndex().hasPrefix(prefix);
+    }
+
+    /**
+     * Checks if any word starts with buf[off, off + len).
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if at least one word starts with the characters
+     */
+    public boolean isPrefix(char[] buf, int off, int len) {
+        return getIndex().hasPrefix(buf, off, len);
+    }
+
+    /**
+     * Checks if any word ends with the given suffix.
+     *
+     * @param suffix the suffix to check
+     * @return true if at least one word ends with suffix
+     */
+    public boolean hasSuffix(String suffix) {
+        return getIndex().hasSuffix(suffix);
+    }
+
+    /**
+     * Looks up a packed key.
+     */
+    private boolean findKey(long key) {
+        return key != PackedWordSet.INVALID && packed.contains(key);
+    }
+
+    /**
+     * Returns the trie index of this snapshot, building it on first use.
+     *
+     * @return the index
+     */
+    public WordTrie getIndex() {
+        WordTrie result = index;
+        if (result == null) {
+            synchronized (this) {
+                result = index;
+                if (result == null) {
+                    result = WordTrie.build(keys, keys.length);
+                    index = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the full-line scanner of this snapshot, building it on first use.
+     *
+     * @return the scanner
+     */
+    public WordScanner getScanner() {
+        WordScanner result = scanner;
+        if (result == null) {
+            synchronized (this) {
+                result = scanner;
+                if (result == null) {
+                    result = WordScanner.build(keys, keys.length);
+                    scanner = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of words in this snapshot.
+     *
+     * @return the word count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the memory held by this snapshot's indexes. The trie and scanner
+     * only count once they have been built.
+     *
+     * @return the size in bytes
+     */
+    public long getFootprintBytes() {
+        WordTrie trie = index;
+        WordScanner built = scanner;
+        return packed.getFootprintBytes() + 8L * keys.length
+                + (trie == null ? 0 : trie.getFootprintBytes())
+                + (built == null ? 0 : built.getFootprintBytes());
+    }
+
+    /**
+     * Returns the version number; every reload gets a higher one.
+     *
+     * @return the version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns where the words of this snapshot were read from.
+     *
+     * @return the source description
+     */
+    public String getSource() {
+        return source;
+    }
+}
@@ -0,0 +1,110 @@
+package com.textris.storage;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches an external word list file and reloads the dictionary when it changes.
+ *
+ * The watcher runs on its own daemon thread. When the file is created or
+ * modified it waits for the writes to settle, then asks LoadDictionary to build
+ * a new snapshot and swap it in. Lookups keep running against the old snapshot
+ * the whole time.
+ *
+ * Responsibilities:
+ * - Detects changes to one word list file
+ * - Triggers LoadDictionary.reload on a background thread
+ *
+ * Collaborators:
+ * - LoadDictionary
+ */
+public final class DictionaryWatcher implements AutoCloseable {
+
+    // Editors and copy tools often write a file in several steps
+    private static final long SETTLE_MILLIS = 250;
+
+    private final Path file;
+    private final WatchService service;
+    private final Thread thread;
+
+    private DictionaryWatcher(Path file, WatchService service) {
+        this.file = file;
+        this.service = service;
+        this.thread = new Thread(this::run, "textris-dictionary-watcher");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching a word list file.
+     *
+     * @param file the word list file
+     * @return the running watcher
+     * @throws IOException if the file's folder cannot be watched
+     */
+    public static DictionaryWatcher start(Path file) throws IOException {
+        Path absolute = file.toAbsolutePath();
+        WatchService service = FileSystems.getDefault().newWatchService();
+        absolute.getParent().register(service,
+                StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        DictionaryWatcher watcher = new DictionaryWatcher(absolute, service);
+        watcher.thread.start();
+        System.out.println("Watching " + absolute + " for dictionary changes");
+        return watcher;
+    }
+
+    /**
+     * Stops watching the file.
+     */
+    @Override
+    public void close() {
+        try {
+            service.close();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private void run() {
+        try {
+            while (true) {
+                if (!touchesFile(service.take())) continue;
+
+                // Swallow the rest of a burst of writes before reloading
+                WatchKey more = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                while (more != null) {
+                    touchesFile(more);
+                    more = service.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS);
+                }
+
+                try {
+                    LoadDictionary.reload(file);
+                } catch (IOException e) {
+                    System.out.println("Dictionary reload failed, keeping the current word list:");
+                    e.printStackTrace();
+                }
+            }
+        } catch (ClosedWatchServiceException | InterruptedException e) {
+            // Watcher closed
+        }
+    }
+
+    /**
+     * Consumes the events of a key and reports whether any of them is the watched file.
+     */
+    private boolean touchesFile(WatchKey key) {
+        boolean touched = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (file.getFileName().equals(event.context())) touched = true;
+        }
+        key.reset();
+        return touched;
+    }
+}
@@ -0,0 +1,97 @@
+package com.textris.storage;
+
+/**
+ * The loaded resources of one language: its word list and its letter
+ * distribution, plus how long they took to load and how much memory they hold.
+ *
+ * Responsibilities:
+ * - Pairs a dictionary snapshot with the matching letter weights
+ * - Reports load time and resident size
+ *
+ * Collaborators:
+ * - LanguageRegistry
+ * - DictionarySnapshot
+ * - LetterTable
+ */
+public final class LanguagePack {
+
+    private final String language;
+    private final DictionarySnapshot words;
+    private final LetterTable letters;
+    private final long loadMillis;
+    private final long chargedBytes;
+
+    LanguagePack(String language, DictionarySnapshot words, LetterTable letters, long loadMillis) {
+        this.language = language;
+        this.words = words;
+        this.letters = letters;
+        this.loadMillis = loadMillis;
+        this.chargedBytes = getFootprintBytes();
+    }
+
+    /**
+     * Returns the language id this pack was registered under.
+     *
+     * @return the language id
+     */
+    public String getLanguage() {
+        return language;
+    }
+
+    /**
+     * Returns the language's word list.
+     *
+     * @return the dictionary snapshot
+     */
+    public DictionarySnapshot getWords() {
+        return words;
+    }
+
+    /**
+     * Returns the language's letter distribution.
+     *
+     * @return the letter table
+     */
+    public LetterTable getLetters() {
+        return letters;
+    }
+
+    /**
+     * Returns how long the pack took to load.
+     *
+     * @return the load time in milliseconds
+     */
+    public long getLoadMillis() {
+        return loadMillis;
+    }
+
+    /**
+     * Returns the memory held by the pack's word indexes and letter table.
+     *
+     * @return the size in bytes
+     */
+    public long getFootprintBytes() {
+        return words.getFootprintBytes() + letters.getFootprintBytes();
+    }
+
+    /**
+     * Returns the footprint the pack had when it was loaded, which is what the
+     * LanguageRegistry charged against its budget and gives back on eviction.
+     *
+     * @return the size in bytes
+     */
+    long getChargedBytes() {
+        return chargedBytes;
+    }
+
+    /**
+     * Returns a one-line summary of the pack.
+     *
+     * @return the summary
+     */
+    @Override
+    public String toString() {
+        return String.format("%s: %d words, %d KB resident, loaded in %d ms",
+                language, words.size(), getFootprintBytes() / 1024, loadMillis);
+    }
+}
@@ -0,0 +1,187 @@
+package com.textris.storage;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Keeps track of the languages (word list plus letter weights) the game can use.
+ *
+ * A language is only loaded the first time it is asked for. Loaded languages
+ * are kept in least-recently-used order, and once their combined footprint
+ * passes the memory budget the least recently used ones are dropped. Each pack
+ * is charged once, with its word scanner already built, and eviction gives back
+ * exactly what was charged, so indexes built later cannot skew the total. They are
+ * loaded again if they are needed later. Games keep a reference to the pack
+ * they play with, so eviction never pulls the words out from under a game.
+ *
+ * Word lists and weights are looked up on the classpath first and then on disk,
+ * so extra languages can ship as plain files next to the game.
+ *
+ * Responsibilities:
+ * - Registers languages by id
+ * - Loads each language lazily and evicts the least recently used ones
+ * - Reports per-language load time and resident size
+ *
+ * Collaborators:
+ * - LanguagePack
+ * - LoadDictionary
+ * - LetterTable
+ */
+public class LanguageRegistry {
+
+    /** Id of the built-in English word list and weights. */
+    public static final String DEFAULT_LANGUAGE = "en";
+
+    private static final long DEFAULT_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    private static LanguageRegistry instance;
+
+    private final long budgetBytes;
+    private final Map<String, String[]> sources = new HashMap<>();
+    private final LinkedHashMap<String, LanguagePack> resident = new LinkedHashMap<>(16, 0.75f, true);
+    private long residentBytes = 0;
+
+    /**
+     * Creates an empty registry.
+     *
+     * @param budgetBytes how much memory loaded languages may hold before the
+     *                    least recently used ones are evicted
+     */
+    public LanguageRegistry(long budgetBytes) {
+        this.budgetBytes = budgetBytes;
+    }
+
+    /**
+     * Returns the shared registry, with the built-in English language registered.
+     * The memory budget can be set with -Dtextris.languageBudgetBytes.
+     *
+     * @return the shared registry
+     */
+    public static synchronized LanguageRegistry getDefault() {
+        if (instance == null) {
+            instance = new LanguageRegistry(Long.getLong("textris.languageBudgetBytes", DEFAULT_BUDGET_BYTES));
+            instance.register(DEFAULT_LANGUAGE, "/Twordlist.bin", "/weightsCumulative.txt");
+        }
+        return instance;
+    }
+
+    /**
+     * Registers (or replaces) a language. Nothing is read until it is first used.
+     *
+     * @param language the language id
+     * @param wordList the word list, text or compiled, as a resource or file path
+     * @param weights the cumulative letter weights, as a resource or file path
+     */
+    public synchronized void register(String language, String wordList, String weights) {
+        sources.put(language, new String[] { wordList, weights });
+        evict(language);
+    }
+
+    /**
+     * Returns the ids of all registered languages.
+     *
+     * @return the language ids, sorted
+     */
+    public synchronized Set<String> getLanguages() {
+        return new TreeSet<>(sources.keySet());
+    }
+
+    /**
+     * Returns a language, loading it first if it is not resident.
+     *
+     * @param language the language id
+     * @return the loaded language
+     * @throws IOException if the language is unknown or its files cannot be read
+     */
+    public synchronized LanguagePack get(String language) throws IOException {
+        LanguagePack pack = resident.get(language);
+        if (pack != null) return pack;
+
+        String[] source = sources.get(language);
+        if (source == null) {
+            throw new IOException("Unknown language: " + language);
+        }
+
+        long startTime = System.nanoTime();
+        URL wordList = locate(source[0]);
+        DictionarySnapshot words = DictionarySnapshot.build(
+                LoadDictionary.readKeys(wordList), wordList.toString(), 1);
+        // Built now rather than in the first game, so the pack is charged for it
+        words.getScanner();
+        LetterTable letters = new LetterTable(locate(source[1]));
+        pack = new LanguagePack(language, words, letters, (System.nanoTime() - startTime) / 1_000_000);
+
+        resident.put(language, pack);
+        residentBytes += pack.getChargedBytes();
+        System.out.println("Language loaded - " + pack);
+
+        trimToBudget(language);
+        return pack;
+    }
+
+    /**
+     * Returns one summary line per resident language, most recently used last.
+     *
+     * @return the resident languages
+     */
+    public synchronized List<String> report() {
+        List<String> lines = new ArrayList<>();
+        for (LanguagePack pack : resident.values()) {
+            lines.add(pack.toString());
+        }
+        return lines;
+    }
+
+    /**
+     * Returns the combined footprint of all resident languages.
+     *
+     * @return the size in bytes
+     */
+    public synchronized long getResidentBytes() {
+        return residentBytes;
+    }
+
+    private void trimToBudget(String keep) {
+        Iterator<Map.Entry<String, LanguagePack>> oldest = resident.entrySet().iterator();
+        while (residentBytes > budgetBytes && oldest.hasNext()) {
+            Map.Entry<String, LanguagePack> entry = oldest.next();
+            if (entry.getKey().equals(keep)) continue;
+
+            residentBytes -= entry.getValue().getChargedBytes();
+            oldest.remove();
+            System.out.println("Language evicted - " + entry.getValue());
+        }
+    }
+
+    private void evict(String language) {
+        LanguagePack pack = resident.remove(language);
+        if (pack != null) residentBytes -= pack.getChargedBytes();
+    }
+
+    private static URL locate(String location) throws IOException {
+        URL url = LanguageRegistry.class.getResource(location);
+        if (url != null) return url;
+
+        // The build only produces the compiled word list; fall back to the text one
+        if (location.endsWith(".bin")) {
+            url = LanguageRegistry.class.getResource(location.substring(0, location.length() - 4) + ".txt");
+            if (url != null) return url;
+        }
+
+        Path path = Paths.get(location);
+        if (Files.isRegularFile(path)) return path.toUri().toURL();
+
+        throw new IOException(location + " not found on the classpath or on disk");
+    }
+}
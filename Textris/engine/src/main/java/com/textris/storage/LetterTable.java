@@ -0,0 +1,179 @@
+package com.textris.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Scanner;
+
+/**
+ * One weighted letter distribution, read from a cumulative weights file
+ * such as weightsCumulative.txt.
+ *
+ * Each line of the file holds the upper end of a letter's region, starting
+ * with 'a'; a random number below the upper bound picks the letter whose region
+ * it falls into. A letter whose upper end equals the one before it takes
+ * over that region.
+ *
+ * The regions are expanded once into a flat lookup table with one byte per
+ * number (10,000 bytes for the default weights), so picking a letter is two
+ * array reads with no search and no boxing. Distributions with an upper
+ * bound too large to expand fall back to a binary search over the region
+ * ends; both give the same letter for every number.
+ *
+ * Responsibilities:
+ * - Reads a cumulative weights file
+ * - Maps a random number onto a weighted letter
+ *
+ * Collaborators:
+ * - LetterWeights
+ * - LanguageRegistry
+ */
+public class LetterTable
+{
+    /** Largest upper bound expanded into a flat lookup table. */
+    public static final int MAX_FLAT_BOUND = 1 << 16;
+
+    private final char[] letters; // letter of each region
+    private final int[] ends;     // inclusive upper end of each region, ascending
+    private final byte[] lookup;  // region of each number, or null to search ends
+    private final int letterCount;
+    private final int upperBound;
+
+    /**
+     * Reads a cumulative weights file.
+     *
+     * @param location the file to read
+     * @throws IOException if the file cannot be read, or its values decrease
+     */
+    public LetterTable(URL location) throws IOException
+    {
+        char[] regionLetters = new char[32];
+        int[] regionEnds = new int[32];
+        int regions = 0;
+        int count = 0;
+
+        try (InputStream input = location.openStream();
+             Scanner reader = new Scanner(input))
+        {
+            char currentLetter = 'a';
+
+            while (reader.hasNextLine())
+            {
+                String data = reader.nextLine().trim();
+                if (data.isEmpty()) continue;
+
+                int end = Integer.parseInt(data);
+                if (regions > 0 && end < regionEnds[regions - 1])
+                {
+                    throw new IOException(location + " has decreasing letter weights");
+                }
+                if (regions > 0 && end == regionEnds[regions - 1])
+                {
+                    regionLetters[regions - 1] = currentLetter; // a later letter with the same end wins
+                }
+                else
+                {
+                    if (regions == regionEnds.length)
+                    {
+                        regionEnds = Arrays.copyOf(regionEnds, regions * 2);
+                        regionLetters = Arrays.copyOf(regionLetters, regions * 2);
+                    }
+                    regionEnds[regions] = end;
+                    regionLetters[regions] = currentLetter;
+                    regions++;
+                }
+                currentLetter++;
+                count++;
+            }
+        }
+
+        if (regions == 0)
+        {
+            throw new IOException(location + " holds no letter weights");
+        }
+        letters = Arrays.copyOf(regionLetters, regions);
+        ends = Arrays.copyOf(regionEnds, regions);
+        letterCount = count;
+        upperBound = ends[regions - 1] + 1;
+        lookup = upperBound <= MAX_FLAT_BOUND && regions <= Byte.MAX_VALUE ? expand() : null;
+    }
+
+    /**
+     * Writes the region of every number in [0, upper bound) into a flat table.
+     */
+    private byte[] expand()
+    {
+        byte[] table = new byte[upperBound];
+        int from = 0;
+        for (int region = 0; region < ends.length; region++)
+        {
+            int to = ends[region] + 1;
+            if (to > from) Arrays.fill(table, from, to, (byte) region);
+            from = Math.max(from, to);
+        }
+        return table;
+    }
+
+    /**
+     * Maps a number in [0, upper bound) onto a letter.
+     *
+     * @param number number that determines letter
+     * @return char letter
+     */
+    public char getLetter(int number)
+    {
+        if (lookup != null) return letters[lookup[number]];
+
+        int region = Arrays.binarySearch(ends, number);
+        return letters[region >= 0 ? region : -region - 1];
+    }
+
+    /**
+     * Returns the upper bound of the number range letters are drawn from.
+     *
+     * @return int upperBound
+     */
+    public int getUpperBound()
+    {
+        return upperBound;
+    }
+
+    /**
+     * Returns the number of letters in the distribution.
+     *
+     * @return the letter count
+     */
+    public int getLetterCount()
+    {
+        return letterCount;
+    }
+
+    /**
+     * Returns the probability of drawing a letter.
+     *
+     * @param letter the letter
+     * @return the share of the number range that maps onto it
+     */
+    public double getProbability(char letter)
+    {
+        int width = 0;
+        int from = 0;
+        for (int region = 0; region < ends.length; region++)
+        {
+            if (letters[region] == letter) width += ends[region] + 1 - from;
+            from = ends[region] + 1;
+        }
+        return (double) width / upperBound;
+    }
+
+    /**
+     * Returns a rough estimate of the memory held by this table.
+     *
+     * @return the estimated size in bytes
+     */
+    public long getFootprintBytes()
+    {
+        return 2L * letters.length + 4L * ends.length + (lookup == null ? 0 : lookup.length) + 48;
+    }
+}
@@ -1,9 +1,7 @@
 package com.textris.storage;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.Scanner;
-import java.util.TreeMap;
+import java.net.URL;
 
 /**
  * This class contains a reference to a file that holds the
@@ -11,15 +9,17 @@ import java.util.TreeMap;
  *
  * Responsibilities:
  * - Allows other classes to reference letter weights
+ * - Holds the LetterTable that new letters are currently drawn from
  *
  * Collaborators:
+ * - LetterTable
  */
 public class LetterWeights 
 {
     // file of cumulative weighted regions from 0 to 9999
     private static final String fileName = "/weightsCumulative.txt";
 
-    private static TreeMap<Integer, Character> weights = new TreeMap<>();
+    private static volatile LetterTable table;
 
     static 
     {
@@ -34,6 +34,15 @@ public class LetterWeights
 //        - When you create a new LetterBlock() it creates the `Block` so were not doing two things there to avoid confusion, and stores it within the letterblock
     }
 
+    /**
+     * Makes sure the weights file has been read. Calling this early (for example on a
+     * background thread at startup) keeps the file read off the first letter spawn.
+     */
+    public static void preload() 
+    {
+        // Reading happens in the static initializer; touching the class is enough
+    }
+
     /**
      * Opens file and stores the letter/weight pairs for easy access.
      *
@@ -41,21 +50,11 @@ public class LetterWeights
      */
     public static void readFile(String fileName) 
     {
-        try (InputStream input = LetterWeights.class.getResourceAsStream(fileName))
+        try
         {
-            try (Scanner reader = new Scanner(input))
-            {
-                char currentLetter = 'a';
-
-                while (reader.hasNextLine())
-                {
-                    String data = reader.nextLine();
-                    int weight = Integer.parseInt(data);
-
-                    weights.put(weight, currentLetter);
-                    currentLetter++;
-                }
-            } 
+            URL location = LetterWeights.class.getResource(fileName);
+            if (location == null) throw new IOException(fileName + " not found");
+            table = new LetterTable(location);
         } 
         catch (IOException exception)
         {
@@ -64,6 +63,30 @@ public class LetterWeights
         }
     }
 
+    /**
+     * Switches the distribution new letters are drawn from, e.g. to the
+     * letter weights of another language.
+     *
+     * @param newTable the letter table to use
+     */
+    public static void setTable(LetterTable newTable) 
+    {
+        if (newTable != null)
+        {
+            table = newTable;
+        }
+    }
+
+    /**
+     * Returns the distribution new letters are currently drawn from.
+     *
+     * @return the active letter table
+     */
+    public static LetterTable getTable() 
+    {
+        return table;
+    }
+
      /**
      * Allows classes to generate a letter based off of an input number.
      *
@@ -72,7 +95,7 @@ public class LetterWeights
      */
     public static char getLetter(int number) 
     {
-        return weights.ceilingEntry(number).getValue();
+        return table.getLetter(number);
     }
 
 
@@ -83,6 +106,6 @@ public class LetterWeights
      */
     public static int getUpperBound() 
     {
-        return 10000;
+        return table.getUpperBound();
     }
 }
\ No newline at end of file
@@ -0,0 +1,239 @@
+package com.textris.storage;
+
+import java.io.InputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Manages loading the dictionary into memory and performing searches
+ * on that dictionary. Collaborator for Dictionary class.
+ *
+ * Responsibilities:
+ * - Loads the compiled word list (Twordlist.bin) when Dictionary instantiates,
+ *   falling back to parsing Twordlist.txt if it has not been compiled.
+ * - Publishes the loaded words as an immutable DictionarySnapshot behind one
+ *   atomic reference, and swaps in a new snapshot when the word list is reloaded.
+ * - Optionally watches an external word list file and reloads it when it changes.
+ *
+ * @author Jason Watts, Carrie Rochell
+ */
+public class LoadDictionary {
+    private static final String WORD_LIST = "/Twordlist.txt";
+    private static final String COMPILED_WORD_LIST = "/Twordlist.bin";
+
+    private static final AtomicReference<DictionarySnapshot> current = new AtomicReference<>();
+    private static final AtomicLong versions = new AtomicLong();
+    private static DictionaryWatcher watcher = null;
+
+    /**
+     * Loads the word list into memory for the duration of the game.
+     * The compiled Twordlist.bin produced by the build is read in one go; only
+     * if it is missing is Twordlist.txt parsed line by line. The word scanner
+     * board scans use is built here, on the loading thread, so the first scan
+     * of a game finds it ready; the trie index is not built until the first
+     * prefix or suffix query. Safe to call from several threads.
+     *
+     * If the system property textris.wordList names a file, that file (text or
+     * compiled) is loaded instead and watched for changes.
+     *
+     * @throws IOException if neither file can be read
+     */
+    public static synchronized void load() throws IOException {
+        //Prevent multiple reloads if dictionary already loaded
+        DictionarySnapshot loaded = current.get();
+        if (loaded != null) {
+            System.out.println("Dictionary already loaded (" + loaded.size() + " words)\n");
+            return;
+        }
+
+        String external = System.getProperty("textris.wordList");
+        if (external != null) {
+            Path path = Paths.get(external);
+            reload(path);
+            watch(path);
+            return;
+        }
+
+        long startTime = System.nanoTime();
+
+        URL url = LoadDictionary.class.getResource(COMPILED_WORD_LIST);
+        if (url == null) url = LoadDictionary.class.getResource(WORD_LIST);
+        if (url == null) {
+            throw new IOException("Twordlist.txt not found in resources folder!");
+        }
+
+        publish(DictionarySnapshot.build(readKeys(url), url.toString(), versions.incrementAndGet()), startTime);
+    }
+
+    /**
+     * Loads a word list file (text or compiled) into a new snapshot and swaps it
+     * in. Lookups already running keep using the snapshot they started with, and
+     * if the file cannot be read the current snapshot stays in place. Like
+     * load(), the word scanner is built before the swap, on the calling thread
+     * (the watcher's, for a watched file), never on the game thread.
+     *
+     * @param path the word list file
+     * @return the new snapshot
+     * @throws IOException if the file cannot be read
+     */
+    public static synchronized DictionarySnapshot reload(Path path) throws IOException {
+        long startTime = System.nanoTime();
+        DictionarySnapshot snapshot = DictionarySnapshot.build(
+                readKeys(path.toUri().toURL()), path.toString(), versions.incrementAndGet());
+        publish(snapshot, startTime);
+        return snapshot;
+    }
+
+    /**
+     * Starts watching a word list file and reloading it whenever it changes.
+     * Replaces any file watched before.
+     *
+     * @param path the word list file
+     * @throws IOException if the file's folder cannot be watched
+     */
+    public static synchronized void watch(Path path) throws IOException {
+        if (watcher != null) watcher.close();
+        watcher = DictionaryWatcher.start(path);
+    }
+
+    /**
+     * Returns the snapshot that lookups currently use. Callers that make several
+     * lookups in a row should hold on to one snapshot so a reload cannot change
+     * the word list halfway through.
+     *
+     * @return the current snapshot, or null if the dictionary has not been loaded
+     */
+    public static DictionarySnapshot snapshot() {
+        return current.get();
+    }
+
+    private static void publish(DictionarySnapshot snapshot, long startTime) {
+        // Built before the swap, so no board scan ever waits for it
+        snapshot.getScanner();
+        DictionarySnapshot previous = current.getAndSet(snapshot);
+
+        System.out.println("Dictionary " + (previous == null ? "loaded" : "reloaded")
+                + " from " + snapshot.getSource() + " in "
+                + (System.nanoTime() - startTime) / 1_000_000 + " ms (version " + snapshot.getVersion() + ").\n");
+        System.out.println("Dictionary size: " + snapshot.size() + " words\n");
+    }
+
+    /**
+     * Reads the packed keys of a word list. Compiled dictionaries are read in
+     * one bulk read (the file is ~110 KB, well below the size where mapping it
+     * pays for setting the mapping up); anything else is parsed as text, one
+     * word per line.
+     *
+     * @param url the location of the word list
+     * @return the sorted keys
+     * @throws IOException if the word list cannot be read
+     */
+    static long[] readKeys(URL url) throws IOException {
+        ByteBuffer buffer;
+        try (InputStream in = url.openStream()) {
+            buffer = ByteBuffer.wrap(in.readAllBytes());
+        }
+
+        if (buffer.remaining() < DictionaryCompiler.HEADER_BYTES
+                || buffer.getInt(0) != DictionaryCompiler.MAGIC) {
+            try (BufferedReader readFile = new BufferedReader(
+                    new java.io.InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+                return DictionaryCompiler.compile(readFile);
+            }
+        }
+
+        buffer.position(4);
+        if (buffer.getInt() != DictionaryCompiler.VERSION) {
+            throw new IOException(url + " has an unsupported dictionary format version");
+        }
+
+        int count = buffer.getInt();
+        LongBuffer packedKeys = buffer.asLongBuffer();
+        if (count < 0 || packedKeys.remaining() < count) {
+            throw new IOException(url + " is truncated");
+        }
+
+        long[] keys = new long[count];
+        packedKeys.get(keys);
+        return keys;
+    }
+
+    /**
+     * Returns the trie index built from the word list. The index is built the
+     * first time it is asked for, not when the word list is loaded.
+     *
+     * @return the index, or null if the dictionary has not been loaded
+     */
+    public static WordTrie getIndex() {
+        DictionarySnapshot snapshot = current.get();
+        return snapshot == null ? null : snapshot.getIndex();
+    }
+
+    /**
+     * Checks if buf[off, off + len) is a word, using packed integer keys
+     * so that no String is created.
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if the characters spell a word in the dictionary; false otherwise.
+     */
+    public static boolean findWord(char[] buf, int off, int len) {
+        DictionarySnapshot snapshot = current.get();
+        return snapshot != null && snapshot.isValid(buf, off, len);
+    }
+
+    /**
+     * Checks if any word in the dictionary starts with buf[off, off + len).
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if at least one word starts with the characters; false otherwise.
+     */
+    public static boolean isPrefix(char[] buf, int off, int len) {
+        DictionarySnapshot snapshot = current.get();
+        return snapshot != null && snapshot.isPrefix(buf, off, len);
+    }
+
+    /**
+     * Checks if a word is in the dictionary.
+     *
+     * @param wordToSearch The word to search for in the dictionary.
+     * @return true if word is in dictionary; false otherwise.
+     */
+    public static boolean findWord(String wordToSearch) {
+        DictionarySnapshot snapshot = current.get();
+        return snapshot != null && snapshot.isValid(wordToSearch);
+    }
+
+    /**
+     * Checks if any word in the dictionary starts with the given prefix.
+     *
+     * @param prefix the prefix to look for
+     * @return true if at least one word starts with prefix; false otherwise.
+     */
+    public static boolean isPrefix(String prefix) {
+        DictionarySnapshot snapshot = current.get();
+        return snapshot != null && snapshot.isPrefix(prefix);
+    }
+
+    /**
+     * Checks if any word in the dictionary ends with the given suffix.
+     *
+     * @param suffix the suffix to look for
+     * @return true if at least one word ends with suffix; false otherwise.
+     */
+    public static boolean hasSuffix(String suffix) {
+        DictionarySnapshot snapshot = current.get();
+        return snapshot != null && snapshot.hasSuffix(suffix);
+    }
+}
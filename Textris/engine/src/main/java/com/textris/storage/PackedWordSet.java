@@ -0,0 +1,201 @@
+package com.textris.storage;
+
+/**
+ * A set of short words stored as packed primitive keys.
+ *
+ * Each letter is encoded in 5 bits (a = 1 ... z = 26) and the letters are
+ * shifted into a single long, so words of up to {@value #MAX_LENGTH} letters get
+ * a unique, non-zero key and no two lengths collide. The keys live in an
+ * open-addressed long[] hash table (0 marks a free slot) kept at most half
+ * full, so checking a window of characters is a couple of array reads and
+ * never creates a String.
+ *
+ * Responsibilities:
+ * - Encodes words as packed long keys
+ * - Answers exact word queries on char windows without allocating
+ *
+ * Collaborators:
+ * - LoadDictionary
+ *
+ */
+public final class PackedWordSet {
+
+    /**
+     * The longest word that fits into one packed key, and so the longest word
+     * any dictionary index knows. DictionaryCompiler skips and logs longer ones.
+     */
+    public static final int MAX_LENGTH = 12;
+
+    /** Returned by the pack methods when the characters cannot be encoded. */
+    public static final long INVALID = -1L;
+
+    private final long[] table;
+    private final int mask;
+    private final int size;
+
+    private PackedWordSet(long[] keys, int count) {
+        int capacity = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+        this.table = new long[capacity];
+        this.mask = capacity - 1;
+
+        int added = 0;
+        for (int i = 0; i < count; i++) {
+            int slot = slot(keys[i]);
+            while (table[slot] != 0 && table[slot] != keys[i]) slot = (slot + 1) & mask;
+            if (table[slot] == 0) {
+                table[slot] = keys[i];
+                added++;
+            }
+        }
+        this.size = added;
+    }
+
+    /**
+     * Builds the set from the given words. Words that are too long or contain
+     * characters other than letters are skipped.
+     *
+     * @param words the words to store
+     * @return the set
+     */
+    public static PackedWordSet build(String[] words) {
+        long[] keys = new long[words.length];
+        int count = 0;
+
+        for (String word : words) {
+            long key = pack(word);
+            if (key != INVALID) keys[count++] = key;
+        }
+
+        return new PackedWordSet(keys, count);
+    }
+
+    /**
+     * Builds the set from keys that are already packed, such as the keys of
+     * a compiled dictionary.
+     *
+     * @param keys the packed keys
+     * @param count the number of keys to use from the array
+     * @return the set
+     */
+    public static PackedWordSet fromKeys(long[] keys, int count) {
+        return new PackedWordSet(keys, count);
+    }
+
+    /**
+     * Decodes a packed key back into lowercase letters.
+     *
+     * @param key the packed key
+     * @param buf the buffer to write the letters into (at least {@value #MAX_LENGTH} long)
+     * @return the number of letters written
+     */
+    public static int unpack(long key, char[] buf) {
+        int len = (64 - Long.numberOfLeadingZeros(key) + 4) / 5;
+        for (int i = len - 1; i >= 0; i--) {
+            buf[i] = (char) ('a' + (int) (key & 31) - 1);
+            key >>>= 5;
+        }
+        return len;
+    }
+
+    /**
+     * Packs a word into its key, ignoring case.
+     *
+     * @param word the word to pack
+     * @return the key, or {@link #INVALID} if the word cannot be packed
+     */
+    public static long pack(CharSequence word) {
+        int len = word.length();
+        if (len == 0 || len > MAX_LENGTH) return INVALID;
+
+        long key = 0;
+        for (int i = 0; i < len; i++) {
+            int code = WordTrie.letterIndex(word.charAt(i)) + 1;
+            if (code == 0) return INVALID;
+            key = (key << 5) | code;
+        }
+        return key;
+    }
+
+    /**
+     * Packs buf[off, off + len) into its key, ignoring case.
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return the key, or {@link #INVALID} if the characters cannot be packed
+     */
+    public static long pack(char[] buf, int off, int len) {
+        if (len <= 0 || len > MAX_LENGTH) return INVALID;
+
+        long key = 0;
+        for (int i = off; i < off + len; i++) {
+            int code = WordTrie.letterIndex(buf[i]) + 1;
+            if (code == 0) return INVALID;
+            key = (key << 5) | code;
+        }
+        return key;
+    }
+
+    /**
+     * Checks if a packed key is in the set.
+     *
+     * @param key the packed key
+     * @return true if the word is present
+     */
+    public boolean contains(long key) {
+        if (key <= 0) return false;
+
+        int slot = slot(key);
+        long probe;
+        while ((probe = table[slot]) != 0) {
+            if (probe == key) return true;
+            slot = (slot + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Checks if a word is in the set.
+     *
+     * @param word the word to check
+     * @return true if the word is present
+     */
+    public boolean contains(CharSequence word) {
+        return contains(pack(word));
+    }
+
+    /**
+     * Checks if buf[off, off + len) spells a word in the set.
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if the word is present
+     */
+    public boolean contains(char[] buf, int off, int len) {
+        return contains(pack(buf, off, len));
+    }
+
+    /**
+     * Returns the number of words in the set.
+     *
+     * @return the word count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the memory held by the hash table.
+     *
+     * @return the size in bytes
+     */
+    public long getFootprintBytes() {
+        return 8L * table.length;
+    }
+
+    private int slot(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h >>> 32) & mask;
+    }
+}
@@ -0,0 +1,173 @@
+package com.textris.storage;
+
+import java.util.Arrays;
+
+/**
+ * An Aho–Corasick automaton over the whole word list that finds every word in
+ * a row or column in one left-to-right pass.
+ *
+ * Checking every window of a line costs one lookup per start position and
+ * length, so it grows with the square of the line and needs a length limit.
+ * The automaton reads each letter once and reports every word ending at that
+ * letter, of any length, by following precomputed links. The transition table
+ * is complete (failure links are folded in), so each letter costs a single
+ * array read.
+ *
+ * Like every other index it is built from packed keys, so it knows words of up
+ * to {@link PackedWordSet#MAX_LENGTH} letters; DictionaryCompiler drops and logs
+ * longer ones when the word list is read.
+ *
+ * The scanner has no game or UI dependencies and can be used from headless tools.
+ *
+ * Responsibilities:
+ * - Builds the automaton from packed word keys
+ * - Streams a line of letters and reports each word with its offset and length
+ *
+ * Collaborators:
+ * - DictionarySnapshot
+ * - PackedWordSet
+ * - WordTrie
+ */
+public final class WordScanner {
+
+    /**
+     * Receives the words found by a scan.
+     */
+    public interface Hit {
+        /**
+         * Called once for every word found, in order of where the word ends.
+         *
+         * @param start the offset of the word's first letter, relative to the scanned range
+         * @param length the number of letters
+         */
+        void found(int start, int length);
+    }
+
+    private static final int ALPHABET = 26;
+    private static final int ROOT = 0;
+
+    private final int[] delta;   // state * 26 + letter -> next state
+    private final byte[] length; // length of the word ending at a state, 0 if none
+    private final int[] output;  // nearest state on the failure chain that ends a word, -1 if none
+    private final int states;
+
+    private WordScanner(int[] delta, byte[] length, int[] output, int states) {
+        this.delta = delta;
+        this.length = length;
+        this.output = output;
+        this.states = states;
+    }
+
+    /**
+     * Builds the automaton from packed word keys.
+     *
+     * @param keys the packed keys
+     * @param count the number of keys to use from the array
+     * @return the scanner
+     */
+    public static WordScanner build(long[] keys, int count) {
+        char[] word = new char[PackedWordSet.MAX_LENGTH];
+
+        // Every letter can add at most one state, so this bounds the trie
+        int capacity = 1;
+        for (int i = 0; i < count; i++) capacity += PackedWordSet.unpack(keys[i], word);
+
+        int[] delta = new int[capacity * ALPHABET];
+        Arrays.fill(delta, -1);
+        byte[] length = new byte[capacity];
+        int states = 1;
+
+        for (int i = 0; i < count; i++) {
+            int len = PackedWordSet.unpack(keys[i], word);
+            int state = ROOT;
+            for (int k = 0; k < len; k++) {
+                int slot = state * ALPHABET + (word[k] - 'a');
+                if (delta[slot] < 0) delta[slot] = states++;
+                state = delta[slot];
+            }
+            length[state] = (byte) len;
+        }
+
+        // Breadth-first, so a state's failure target is finished before the state itself
+        int[] fail = new int[states];
+        int[] output = new int[states];
+        int[] queue = new int[states];
+        int head = 0;
+        int tail = 0;
+
+        output[ROOT] = -1;
+        for (int c = 0; c < ALPHABET; c++) {
+            int child = delta[c];
+            if (child < 0) {
+                delta[c] = ROOT;
+            } else {
+                fail[child] = ROOT;
+                output[child] = -1;
+                queue[tail++] = child;
+            }
+        }
+
+        while (head < tail) {
+            int state = queue[head++];
+            int base = state * ALPHABET;
+            int failBase = fail[state] * ALPHABET;
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = delta[base + c];
+                if (child < 0) {
+                    delta[base + c] = delta[failBase + c];
+                } else {
+                    int target = delta[failBase + c];
+                    fail[child] = target;
+                    output[child] = length[target] != 0 ? target : output[target];
+                    queue[tail++] = child;
+                }
+            }
+        }
+
+        return new WordScanner(Arrays.copyOf(delta, states * ALPHABET),
+                Arrays.copyOf(length, states), output, states);
+    }
+
+    /**
+     * Reports every word in buf[off, off + len). Words may overlap and nest.
+     * Characters outside a–z break the line, so no word spans them.
+     *
+     * @param buf the letters of the line
+     * @param off the first letter to scan
+     * @param len the number of letters
+     * @param hit receives each word found
+     */
+    public void scan(char[] buf, int off, int len, Hit hit) {
+        int state = ROOT;
+        for (int i = 0; i < len; i++) {
+            int letter = WordTrie.letterIndex(buf[off + i]);
+            if (letter < 0) {
+                state = ROOT;
+                continue;
+            }
+
+            state = delta[state * ALPHABET + letter];
+            for (int s = length[state] != 0 ? state : output[state]; s > 0; s = output[s]) {
+                hit.found(i + 1 - length[s], length[s]);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of automaton states.
+     *
+     * @return the state count
+     */
+    public int getStateCount() {
+        return states;
+    }
+
+    /**
+     * Returns the memory held by the automaton's tables.
+     *
+     * @return the size in bytes
+     */
+    public long getFootprintBytes() {
+        return 4L * delta.length + length.length + 4L * output.length;
+    }
+}
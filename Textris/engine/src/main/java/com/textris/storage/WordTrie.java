@@ -0,0 +1,336 @@
+package com.textris.storage;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A compact, read-only index over the dictionary words.
+ *
+ * The words are stored as a minimized trie (a DAWG): subtrees that spell the
+ * same endings are shared. Every node keeps a 26-bit mask of the letters it has
+ * children for, so a child is found with a single popcount instead of a search.
+ * A second DAWG over the reversed words answers suffix queries the same way.
+ *
+ * Lookups walk one character at a time and never allocate, so callers such as
+ * GameBoard can stop scanning as soon as no word can start with what they have.
+ *
+ * Responsibilities:
+ * - Answers exact, prefix and suffix queries in O(word length)
+ * - Exposes single-step transitions for incremental scans
+ *
+ * Collaborators:
+ * - LoadDictionary
+ *
+ */
+public final class WordTrie {
+
+    /** Node id of the root (the empty prefix). */
+    public static final int ROOT = 0;
+
+    /** Returned by {@link #step(int, char)} when no word continues with the character. */
+    public static final int NONE = -1;
+
+    private static final int ALPHABET = 26;
+
+    private final int[] childMask;
+    private final int[] firstChild;
+    private final int[] children;
+    private final long[] terminal;
+
+    // DAWG over the reversed words; null on the reversed DAWG itself
+    private final WordTrie reversed;
+
+    private WordTrie(int[] childMask, int[] firstChild, int[] children, long[] terminal, WordTrie reversed) {
+        this.childMask = childMask;
+        this.firstChild = firstChild;
+        this.children = children;
+        this.terminal = terminal;
+        this.reversed = reversed;
+    }
+
+    /**
+     * Builds the index from packed word keys (see PackedWordSet).
+     *
+     * @param keys the packed keys
+     * @param count the number of keys to use from the array
+     * @return the index
+     */
+    public static WordTrie build(long[] keys, int count) {
+        Builder forward = new Builder();
+        Builder backward = new Builder();
+        char[] buf = new char[PackedWordSet.MAX_LENGTH];
+
+        for (int i = 0; i < count; i++) {
+            int len = PackedWordSet.unpack(keys[i], buf);
+            if (!forward.add(buf, len, false)) continue;
+            backward.add(buf, len, true);
+        }
+
+        return forward.minimize(backward.minimize(null));
+    }
+
+    /**
+     * Maps a character onto 0-25, ignoring case.
+     *
+     * @param c the character
+     * @return the letter index, or -1 if c is not a letter a-z
+     */
+    public static int letterIndex(char c) {
+        int idx = (c | 0x20) - 'a';
+        return (idx >= 0 && idx < ALPHABET) ? idx : -1;
+    }
+
+    /**
+     * Follows the edge for one character.
+     *
+     * @param node the node to start from ({@link #ROOT} for an empty prefix)
+     * @param c the next character
+     * @return the node reached, or {@link #NONE} if no word continues with c
+     */
+    public int step(int node, char c) {
+        if (node == NONE) return NONE;
+        int idx = letterIndex(c);
+        if (idx < 0) return NONE;
+
+        int mask = childMask[node];
+        int bit = 1 << idx;
+        if ((mask & bit) == 0) return NONE;
+
+        return children[firstChild[node] + Integer.bitCount(mask & (bit - 1))];
+    }
+
+    /**
+     * Checks whether the path to a node spells a complete word.
+     *
+     * @param node the node to check
+     * @return true if a word ends at the node
+     */
+    public boolean isTerminal(int node) {
+        return node != NONE && (terminal[node >>> 6] & (1L << node)) != 0;
+    }
+
+    /**
+     * Checks if a word is in the index.
+     *
+     * @param word the word to check
+     * @return true if the word is present
+     */
+    public boolean contains(CharSequence word) {
+        return isTerminal(walk(word, 0, word.length()));
+    }
+
+    /**
+     * Checks if the characters buf[off, off + len) spell a word in the index.
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if the word is present
+     */
+    public boolean contains(char[] buf, int off, int len) {
+        return isTerminal(walk(buf, off, len));
+    }
+
+    /**
+     * Checks if any word starts with the given prefix.
+     *
+     * @param prefix the prefix to check
+     * @return true if at least one word starts with prefix
+     */
+    public boolean hasPrefix(CharSequence prefix) {
+        return walk(prefix, 0, prefix.length()) != NONE;
+    }
+
+    /**
+     * Checks if any word starts with buf[off, off + len).
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if at least one word starts with the characters
+     */
+    public boolean hasPrefix(char[] buf, int off, int len) {
+        return walk(buf, off, len) != NONE;
+    }
+
+    /**
+     * Checks if any word ends with the given suffix.
+     *
+     * @param suffix the suffix to check
+     * @return true if at least one word ends with suffix
+     */
+    public boolean hasSuffix(CharSequence suffix) {
+        if (reversed == null) return false;
+        int node = ROOT;
+        for (int i = suffix.length() - 1; i >= 0 && node != NONE; i--) {
+            node = reversed.step(node, suffix.charAt(i));
+        }
+        return node != NONE;
+    }
+
+    /**
+     * Checks if any word ends with buf[off, off + len).
+     *
+     * @param buf the character buffer
+     * @param off the first character
+     * @param len the number of characters
+     * @return true if at least one word ends with the characters
+     */
+    public boolean hasSuffix(char[] buf, int off, int len) {
+        if (reversed == null) return false;
+        int node = ROOT;
+        for (int i = off + len - 1; i >= off && node != NONE; i--) {
+            node = reversed.step(node, buf[i]);
+        }
+        return node != NONE;
+    }
+
+    /**
+     * Returns the number of nodes in the forward DAWG.
+     *
+     * @return the node count
+     */
+    public int getNodeCount() {
+        return childMask.length;
+    }
+
+    /**
+     * Returns the memory held by the forward and reversed DAWGs.
+     *
+     * @return the size in bytes
+     */
+    public long getFootprintBytes() {
+        long bytes = 4L * (childMask.length + firstChild.length + children.length) + 8L * terminal.length;
+        return reversed == null ? bytes : bytes + reversed.getFootprintBytes();
+    }
+
+    private int walk(CharSequence chars, int off, int len) {
+        int node = ROOT;
+        for (int i = off; i < off + len && node != NONE; i++) {
+            node = step(node, chars.charAt(i));
+        }
+        return node;
+    }
+
+    private int walk(char[] buf, int off, int len) {
+        int node = ROOT;
+        for (int i = off; i < off + len && node != NONE; i++) {
+            node = step(node, buf[i]);
+        }
+        return node;
+    }
+
+    /**
+     * Plain trie used while loading; minimized into a WordTrie once all words are in.
+     */
+    private static final class Builder {
+        private int[][] next = new int[1024][];
+        private boolean[] term = new boolean[1024];
+        private int size = 1;
+
+        Builder() {
+            next[ROOT] = new int[ALPHABET];
+        }
+
+        boolean add(char[] buf, int len, boolean reverse) {
+            for (int i = 0; i < len; i++) {
+                if (letterIndex(buf[i]) < 0) return false;
+            }
+
+            int node = ROOT;
+            for (int i = 0; i < len; i++) {
+                int idx = letterIndex(buf[reverse ? len - 1 - i : i]);
+                int child = next[node][idx];
+                if (child == 0) {
+                    child = newNode();
+                    next[node][idx] = child;
+                }
+                node = child;
+            }
+            term[node] = true;
+            return true;
+        }
+
+        private int newNode() {
+            if (size == next.length) {
+                next = Arrays.copyOf(next, size * 2);
+                term = Arrays.copyOf(term, size * 2);
+            }
+            next[size] = new int[ALPHABET];
+            return size++;
+        }
+
+        /**
+         * Merges equivalent subtrees and packs the result into flat arrays.
+         */
+        WordTrie minimize(WordTrie reversed) {
+            List<int[]> uniqueKids = new ArrayList<>();
+            List<Boolean> uniqueTerm = new ArrayList<>();
+            int rootId = register(ROOT, new HashMap<>(), uniqueKids, uniqueTerm);
+
+            // Renumber breadth-first so the root becomes node 0
+            int count = uniqueKids.size();
+            int[] newId = new int[count];
+            Arrays.fill(newId, -1);
+            int[] order = new int[count];
+            int assigned = 0;
+            ArrayDeque<Integer> queue = new ArrayDeque<>();
+            newId[rootId] = assigned;
+            order[assigned++] = rootId;
+            queue.add(rootId);
+            while (!queue.isEmpty()) {
+                for (int kid : uniqueKids.get(queue.poll())) {
+                    if (kid >= 0 && newId[kid] < 0) {
+                        newId[kid] = assigned;
+                        order[assigned++] = kid;
+                        queue.add(kid);
+                    }
+                }
+            }
+
+            int[] childMask = new int[assigned];
+            int[] firstChild = new int[assigned];
+            long[] terminal = new long[(assigned + 63) >>> 6];
+            int[] children = new int[Math.max(assigned - 1, 0)];
+            int edges = 0;
+
+            for (int n = 0; n < assigned; n++) {
+                int[] kids = uniqueKids.get(order[n]);
+                firstChild[n] = edges;
+                for (int c = 0; c < ALPHABET; c++) {
+                    if (kids[c] < 0) continue;
+                    childMask[n] |= 1 << c;
+                    if (edges == children.length) children = Arrays.copyOf(children, edges * 2 + 1);
+                    children[edges++] = newId[kids[c]];
+                }
+                if (uniqueTerm.get(order[n])) terminal[n >>> 6] |= 1L << n;
+            }
+
+            return new WordTrie(childMask, firstChild, Arrays.copyOf(children, edges), terminal, reversed);
+        }
+
+        private int register(int node, Map<String, Integer> registry, List<int[]> uniqueKids, List<Boolean> uniqueTerm) {
+            int[] kids = new int[ALPHABET];
+            StringBuilder signature = new StringBuilder().append(term[node] ? '1' : '0');
+
+            for (int c = 0; c < ALPHABET; c++) {
+                int child = next[node][c];
+                kids[c] = child == 0 ? -1 : register(child, registry, uniqueKids, uniqueTerm);
+                if (kids[c] >= 0) signature.append((char) ('a' + c)).append(kids[c]);
+            }
+
+            Integer id = registry.get(signature.toString());
+            if (id == null) {
+                id = uniqueKids.size();
+                registry.put(signature.toString(), id);
+                uniqueKids.add(kids);
+                uniqueTerm.add(term[node]);
+            }
+            return id;
+        }
+    }
+}
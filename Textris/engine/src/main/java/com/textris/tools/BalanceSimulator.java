@@ -0,0 +1,72 @@
+package com.textris.tools;
+
+import com.textris.model.Dictionary;
+import com.textris.model.GameBoard;
+import com.textris.model.GameSimulator;
+import com.textris.model.LetterGenerator;
+import com.textris.model.PlacementPolicy;
+import com.textris.model.SimulationReport;
+import com.textris.storage.LetterWeights;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+/**
+ * Plays a batch of seeded games in parallel and reports how they went, to
+ * tune difficulty with numbers instead of by feel.
+ *
+ * Games are split across every core with a parallel stream on the common
+ * fork/join pool. Each worker thread reuses its own GameSimulator and fills
+ * its own SimulationReport; the reports are merged at the end. Game i always
+ * uses the seed LetterGenerator.gameSeed(seed, i), so a batch gives the same
+ * report on any number of cores, and the games-per-minute figure doubles as
+ * a scaling benchmark for the engine.
+ *
+ * Only the model is used; no JavaFX toolkit is needed.
+ * Run with: java -cp target/classes com.textris.tools.BalanceSimulator
+ *           [games] [RANDOM|LOWEST|GREEDY] [seed] [cols] [rows]
+ *
+ * Collaborators:
+ * - GameSimulator
+ * - LetterGenerator
+ * - PlacementPolicy
+ * - SimulationReport
+ */
+public class BalanceSimulator {
+
+    /**
+     * Runs the simulation.
+     *
+     * @param args optional game count (default 100000), policy (default LOWEST),
+     *             seed (default 42), and board columns and rows (default 5 by 8)
+     */
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+        PlacementPolicy policy = PlacementPolicy.named(args.length > 1 ? args[1] : "LOWEST");
+        long seed = args.length > 2 ? Long.parseLong(args[2]) : 42;
+        int cols = args.length > 3 ? Integer.parseInt(args[3]) : GameBoard.DEFAULT_COLS;
+        int rows = args.length > 4 ? Integer.parseInt(args[4]) : GameBoard.DEFAULT_ROWS;
+
+        Dictionary dictionary = new Dictionary();
+        LetterWeights.preload();
+        // One simulator per thread, so counting simulators counts the threads that played
+        Set<Thread> workers = ConcurrentHashMap.newKeySet();
+        ThreadLocal<GameSimulator> simulators = ThreadLocal.withInitial(() -> {
+            workers.add(Thread.currentThread());
+            return new GameSimulator(dictionary, cols, rows, policy);
+        });
+
+        long start = System.nanoTime();
+        SimulationReport report = IntStream.range(0, games).parallel().collect(
+                SimulationReport::new,
+                (partial, game) -> simulators.get().play(LetterGenerator.gameSeed(seed, game), partial),
+                SimulationReport::merge);
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("%s policy on %dx%d, seed %d%n", args.length > 1 ? args[1].toUpperCase() : "LOWEST",
+                cols, rows, seed);
+        System.out.print(report);
+        System.out.printf("%d games in %.2f s on %d threads (%d cores): %.0f games/min%n", games, seconds,
+                workers.size(), Runtime.getRuntime().availableProcessors(), games / seconds * 60);
+    }
+}
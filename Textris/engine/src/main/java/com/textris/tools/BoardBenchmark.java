@@ -0,0 +1,175 @@
+package com.textris.tools;
+
+import com.textris.model.Dictionary;
+import com.textris.model.Direction;
+import com.textris.model.GameBoard;
+import com.textris.model.GameCell;
+import com.textris.model.GameSimulator;
+import com.textris.model.LetterBlock;
+import com.textris.model.LetterGenerator;
+import com.textris.model.PlacementPolicy;
+import com.textris.model.SimulationReport;
+import java.util.Random;
+
+/**
+ * Times the board's movement and gravity checks on boards from the default
+ * 5x8 up to 64x256, to show that their cost per operation does not grow
+ * with the board.
+ *
+ * For each size the board is filled with random settled stacks and four
+ * operations are timed:
+ * - canMove probes on random cells (occupancy bit tests)
+ * - landingRow from the top of random columns (bit scan)
+ * - the same landing row found by walking GameCells down the column, for contrast
+ * - settle on a board with random holes punched in its stacks, per fallen block
+ *
+ * Then a batch of GREEDY games is played on the default board, and the hit
+ * rate of the policy's transposition table is reported: the share of trial
+ * placements whose cascade was already scored in an earlier position.
+ *
+ * Only the model is used; no JavaFX toolkit is needed.
+ * Run with: java -cp target/classes com.textris.tools.BoardBenchmark [operations] [games]
+ *
+ * Collaborators:
+ * - GameBoard
+ * - GameCell
+ * - GameSimulator
+ * - GreedyPolicy
+ */
+public class BoardBenchmark {
+
+    private static final int[][] SIZES = {
+        { 5, 8 }, { 16, 32 }, { 32, 64 }, { 64, 128 }, { 64, 256 }
+    };
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional number of operations per measurement (default 2000000)
+     *             and number of GREEDY games (default 2000)
+     */
+    public static void main(String[] args) {
+        int operations = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        Dictionary dictionary = new Dictionary();
+
+        for (int round = 0; round < 3; round++) {
+            boolean report = round == 2; // earlier rounds are JIT warm-up
+            if (report) {
+                System.out.printf("%-8s %12s %12s %12s %14s%n",
+                        "board", "canMove", "landingRow", "cell walk", "settle/block");
+            }
+
+            for (int[] size : SIZES) {
+                Random random = new Random(42);
+                GameBoard board = new GameBoard(dictionary, size[0], size[1]);
+                fill(board, random);
+
+                LetterBlock probe = new LetterBlock('a');
+                int[] cols = new int[1024];
+                int[] rows = new int[1024];
+                for (int i = 0; i < cols.length; i++) {
+                    cols[i] = random.nextInt(board.getColCount());
+                    rows[i] = random.nextInt(board.getRowCount());
+                }
+
+                long t0 = System.nanoTime();
+                int free = 0;
+                for (int i = 0; i < operations; i++) {
+                    probe.setCol(cols[i & 1023]);
+                    probe.setRow(rows[i & 1023]);
+                    if (board.canMove(probe, Direction.DOWN)) free++;
+                    if (board.canMove(probe, Direction.LEFT)) free++;
+                }
+                long moveNs = System.nanoTime() - t0;
+
+                t0 = System.nanoTime();
+                long landing = 0;
+                for (int i = 0; i < operations; i++) {
+                    landing += board.landingRow(cols[i & 1023], 0);
+                }
+                long landingNs = System.nanoTime() - t0;
+
+                t0 = System.nanoTime();
+                long walked = 0;
+                for (int i = 0; i < operations; i++) {
+                    walked += walkLandingRow(board, cols[i & 1023]);
+                }
+                long walkNs = System.nanoTime() - t0;
+
+                long settleNs = 0;
+                long fallen = 0;
+                int boards = Math.max(1, operations / (board.getColCount() * board.getRowCount()));
+                for (int b = 0; b < boards; b++) {
+                    board.clearBoard();
+                    fill(board, random);
+                    punchHoles(board, random);
+                    t0 = System.nanoTime();
+                    fallen += board.settle().size();
+                    settleNs += System.nanoTime() - t0;
+                }
+
+                if (landing != walked) throw new IllegalStateException("landing rows disagree");
+                if (report) {
+                    System.out.printf("%-8s %9.1f ns %9.1f ns %9.1f ns %11.1f ns%n",
+                            size[0] + "x" + size[1],
+                            (double) moveNs / (2.0 * operations),
+                            (double) landingNs / operations,
+                            (double) walkNs / operations,
+                            fallen == 0 ? 0 : (double) settleNs / fallen);
+                }
+                if (free < 0) System.out.println(free); // keeps the probes from being optimized away
+            }
+        }
+
+        GameSimulator simulator = new GameSimulator(dictionary, GameBoard.DEFAULT_COLS, GameBoard.DEFAULT_ROWS,
+                PlacementPolicy.GREEDY);
+        SimulationReport report = new SimulationReport();
+        long t0 = System.nanoTime();
+        for (int game = 0; game < games; game++) {
+            simulator.play(LetterGenerator.gameSeed(42, game), report);
+        }
+        System.out.printf("%d GREEDY games in %.2f s, mean score %.1f%n", games,
+                (System.nanoTime() - t0) / 1e9, report.getMeanScore());
+        System.out.println("Transposition table: " + PlacementPolicy.GREEDY.getTable());
+    }
+
+    /**
+     * Fills each column with a settled stack of random height, up to half the rows.
+     */
+    private static void fill(GameBoard board, Random random) {
+        for (int col = 0; col < board.getColCount(); col++) {
+            int height = random.nextInt(board.getRowCount() / 2 + 1);
+            for (int row = board.getRowCount() - height; row < board.getRowCount(); row++) {
+                LetterBlock block = new LetterBlock((char) ('a' + random.nextInt(26)));
+                block.setCol(col);
+                block.setRow(row);
+                board.placeBlock(block);
+            }
+        }
+    }
+
+    /**
+     * Clears about one cell in ten so settle has blocks to drop.
+     */
+    private static void punchHoles(GameBoard board, Random random) {
+        for (int col = 0; col < board.getColCount(); col++) {
+            for (int row = 0; row < board.getRowCount(); row++) {
+                if (board.isOccupied(col, row) && random.nextInt(10) == 0) board.clearCell(col, row);
+            }
+        }
+    }
+
+    /**
+     * Finds the landing row from the top of a column by following GameCell links.
+     */
+    private static int walkLandingRow(GameBoard board, int col) {
+        GameCell cell = board.getCell(col, 0);
+        int row = 0;
+        while (cell.getDown() != null && cell.getDown().isEmpty()) {
+            cell = cell.getDown();
+            row++;
+        }
+        return row;
+    }
+}
@@ -0,0 +1,203 @@
+package com.textris.tools;
+
+import com.textris.storage.LetterWeights;
+import com.textris.storage.LoadDictionary;
+import com.textris.storage.WordScanner;
+import com.textris.storage.WordTrie;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compares a String binary search (how LoadDictionary used to look words up)
+ * with the WordTrie index and the packed key set.
+ *
+ * Random boards are filled with weighted letters, and every 3–5 letter window
+ * of every row and column is looked up. Five strategies are timed:
+ * - binary search over a sorted String[] of the word list
+ * - exact trie lookups on the same windows
+ * - packed integer key lookups on the same windows (LoadDictionary.findWord(char[], int, int))
+ * - a trie walk per start position that stops once no word has the prefix
+ * - one Aho–Corasick pass over each whole line (WordScanner), which finds
+ *   words of any length; per-window figures divide its time by the same
+ *   window count for comparison
+ *
+ * Run with: java -cp target/classes com.textris.tools.DictionaryBenchmark [boards]
+ *
+ * Collaborators:
+ * - LoadDictionary
+ * - WordTrie
+ * - WordScanner
+ * - LetterWeights
+ */
+public class DictionaryBenchmark {
+
+    private static final int COLS = 5;
+    private static final int ROWS = 8;
+
+    /**
+     * Runs the benchmark.
+     *
+     * @param args optional number of random boards (default 20000)
+     * @throws IOException if the word list cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        int boards = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+
+        LoadDictionary.load();
+        WordTrie index = LoadDictionary.getIndex();
+        WordScanner scanner = LoadDictionary.snapshot().getScanner();
+        int[] scanHits = new int[1];
+        WordScanner.Hit counter = (start, length) -> {
+            if (length >= 3) scanHits[0]++;
+        };
+        String[] words = readWordList();
+
+        Random random = new Random(42);
+        char[][] lines = buildLines(boards, random);
+
+        // Pre-built candidates so the binary search is not charged for string building
+        List<String> candidates = new ArrayList<>();
+        for (char[] line : lines) {
+            for (int len = 3; len <= 5; len++) {
+                for (int start = 0; start + len <= line.length; start++) {
+                    candidates.add(new String(line, start, len));
+                }
+            }
+        }
+
+        System.out.println("Boards: " + boards + ", windows: " + candidates.size());
+
+        for (int round = 0; round < 5; round++) {
+            boolean report = round == 4; // earlier rounds are JIT warm-up
+
+            long t0 = System.nanoTime();
+            int hitsBinary = 0;
+            for (String candidate : candidates) {
+                if (binarySearch(words, candidate)) hitsBinary++;
+            }
+            long binaryNs = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            int hitsTrie = 0;
+            for (char[] line : lines) {
+                for (int len = 3; len <= 5; len++) {
+                    for (int start = 0; start + len <= line.length; start++) {
+                        if (index.contains(line, start, len)) hitsTrie++;
+                    }
+                }
+            }
+            long trieNs = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            int hitsPacked = 0;
+            for (char[] line : lines) {
+                for (int len = 3; len <= 5; len++) {
+                    for (int start = 0; start + len <= line.length; start++) {
+                        if (LoadDictionary.findWord(line, start, len)) hitsPacked++;
+                    }
+                }
+            }
+            long packedNs = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            int hitsWalk = 0;
+            for (char[] line : lines) {
+                for (int start = 0; start <= line.length - 3; start++) {
+                    int node = WordTrie.ROOT;
+                    int maxLen = Math.min(5, line.length - start);
+                    for (int k = 0; k < maxLen; k++) {
+                        node = index.step(node, line[start + k]);
+                        if (node == WordTrie.NONE) break;
+                        if (k >= 2 && index.isTerminal(node)) hitsWalk++;
+                    }
+                }
+            }
+            long walkNs = System.nanoTime() - t0;
+
+            t0 = System.nanoTime();
+            scanHits[0] = 0;
+            for (char[] line : lines) {
+                scanner.scan(line, 0, line.length, counter);
+            }
+            long scanNs = System.nanoTime() - t0;
+
+            if (report) {
+                print("binary search", binaryNs, candidates.size(), hitsBinary);
+                print("trie exact", trieNs, candidates.size(), hitsTrie);
+                print("packed keys", packedNs, candidates.size(), hitsPacked);
+                print("trie prefix walk", walkNs, candidates.size(), hitsWalk);
+                print("line scanner", scanNs, candidates.size(), scanHits[0]);
+                System.out.println("Trie: " + index.getNodeCount() + " nodes, "
+                        + index.getFootprintBytes() / 1024 + " KB");
+                System.out.println("Scanner: " + scanner.getStateCount() + " states, "
+                        + scanner.getFootprintBytes() / 1024 + " KB");
+            }
+        }
+    }
+
+    private static String[] readWordList() throws IOException {
+        List<String> words = new ArrayList<>();
+        try (InputStream in = DictionaryBenchmark.class.getResourceAsStream("/Twordlist.txt");
+             BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line = reader.readLine();
+            while (line != null) {
+                words.add(line.trim());
+                line = reader.readLine();
+            }
+        }
+        return words.toArray(new String[0]);
+    }
+
+    private static boolean binarySearch(String[] words, String wordToSearch) {
+        int start = 0;
+        int end = words.length - 1;
+
+        while (start <= end) {
+            int mid = start + (end - start) / 2;
+            int cmp = words[mid].compareTo(wordToSearch);
+            if (cmp == 0) {
+                return true;
+            } else if (cmp < 0) {
+                start = mid + 1;
+            } else {
+                end = mid - 1;
+            }
+        }
+        return false;
+    }
+
+    private static char[][] buildLines(int boards, Random random) {
+        char[][] lines = new char[boards * (COLS + ROWS)][];
+        int next = 0;
+
+        for (int b = 0; b < boards; b++) {
+            char[][] grid = new char[COLS][ROWS];
+            for (int col = 0; col < COLS; col++) {
+                for (int row = 0; row < ROWS; row++) {
+                    grid[col][row] = LetterWeights.getLetter(random.nextInt(LetterWeights.getUpperBound()));
+                }
+            }
+
+            for (int row = 0; row < ROWS; row++) {
+                char[] line = new char[COLS];
+                for (int col = 0; col < COLS; col++) line[col] = grid[col][row];
+                lines[next++] = line;
+            }
+            for (int col = 0; col < COLS; col++) {
+                lines[next++] = grid[col].clone();
+            }
+        }
+        return lines;
+    }
+
+    private static void print(String name, long nanos, int windows, int hits) {
+        System.out.printf("%-18s %8.2f ms  %6.1f ns/window  %d words%n",
+                name, nanos / 1e6, (double) nanos / windows, hits);
+    }
+}
@@ -0,0 +1,5 @@
+/**
+ * Headless developer tools, such as benchmarks, that exercise the
+ * domain model and storage classes without starting the user interface.
+ */
+package com.textris.tools;
@@ -0,0 +1,124 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that copy-on-write snapshots never see later changes to the board,
+ * and that restoring one puts the board back exactly.
+ */
+class BoardSnapshotTest {
+
+    private static Dictionary dictionary;
+
+    private GameBoard board;
+
+    @BeforeAll
+    static void loadDictionary() {
+        dictionary = new Dictionary();
+    }
+
+    @BeforeEach
+    void newBoard() {
+        board = new GameBoard(dictionary, 5, 8);
+    }
+
+    @Test
+    void snapshotIgnoresLaterChanges() {
+        LetterBlock q = place('q', 0, 7);
+        place('x', 1, 7);
+        BoardSnapshot snapshot = board.snapshot();
+
+        board.clearCell(0, 7);
+        place('z', 2, 7);
+        place('j', 1, 6);
+
+        assertSame(q, snapshot.getBlock(0, 7));
+        assertEquals('q', snapshot.getLetter(0, 7));
+        assertFalse(snapshot.isOccupied(2, 7));
+        assertFalse(snapshot.isOccupied(1, 6));
+        assertEquals(1, snapshot.getHeight(1));
+        assertEquals(0, snapshot.getHeight(2));
+    }
+
+    @Test
+    void restorePutsTheBoardBackAndLeavesTheSnapshotAlone() {
+        place('q', 0, 7);
+        place('x', 1, 7);
+        long hash = board.getHash();
+        BoardSnapshot snapshot = board.snapshot();
+
+        board.clearCell(1, 7);
+        place('z', 3, 7);
+        board.restore(snapshot);
+
+        assertEquals(hash, board.getHash());
+        assertEquals(board.computeHash(), board.getHash());
+        assertTrue(board.isOccupied(1, 7));
+        assertFalse(board.isOccupied(3, 7));
+        assertEquals(1, board.getHeight(1));
+        assertEquals(0, board.getHeight(3));
+
+        // Writing after a restore copies the shared column first
+        board.clearCell(0, 7);
+        assertTrue(snapshot.isOccupied(0, 7));
+        assertEquals('q', snapshot.getLetter(0, 7));
+    }
+
+    @Test
+    void snapshotsTakenInARowStayIndependent() {
+        place('q', 0, 7);
+        BoardSnapshot first = board.snapshot();
+        place('x', 0, 6);
+        BoardSnapshot second = board.snapshot();
+        place('z', 0, 5);
+
+        assertEquals(1, first.getHeight(0));
+        assertEquals(2, second.getHeight(0));
+        assertEquals(3, board.getHeight(0));
+        assertNull(first.getBlock(0, 6));
+
+        board.restore(first);
+        assertEquals(1, board.getHeight(0));
+        board.restore(second);
+        assertEquals(2, board.getHeight(0));
+        assertEquals('x', board.getCell(0, 6).getBlock().getLetter());
+    }
+
+    @Test
+    void restoreBringsBackOnlyTheRowsAndColumnsStillToScan() {
+        place('q', 0, 7);
+        BoardSnapshot clean = board.snapshot();
+
+        place('x', 1, 7);
+        board.markDirty(1, 7);
+        BoardSnapshot pending = board.snapshot();
+
+        board.restore(clean);
+        assertFalse(board.hasDirtyCells());
+        board.restore(pending);
+        assertTrue(board.hasDirtyCells());
+    }
+
+    @Test
+    void restoreRejectsASnapshotOfAnotherSize() {
+        BoardSnapshot other = new GameBoard(dictionary, 6, 8).snapshot();
+        assertThrows(IllegalArgumentException.class, () -> board.restore(other));
+    }
+
+    private LetterBlock place(char letter, int col, int row) {
+        LetterBlock block = new LetterBlock(letter);
+        block.setCol(col);
+        block.setRow(row);
+        assertTrue(board.placeBlock(block));
+        return block;
+    }
+}
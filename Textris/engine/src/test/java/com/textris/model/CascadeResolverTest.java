@@ -0,0 +1,104 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Plays small hand-built boards through the resolver and checks the waves and their points.
+ */
+class CascadeResolverTest {
+
+    private static Dictionary dictionary;
+
+    private GameBoard board;
+    private CascadeResolver resolver;
+
+    @BeforeAll
+    static void loadDictionary() {
+        dictionary = new Dictionary();
+    }
+
+    @BeforeEach
+    void newBoard() {
+        board = new GameBoard(dictionary, 5, 8);
+        resolver = new CascadeResolver(board);
+    }
+
+    @Test
+    void noWordMeansNoCascade() {
+        place('q', 0, 7);
+        place('x', 1, 7);
+        place('z', 2, 7);
+        board.markDirty(0, 7);
+
+        assertSame(CascadeResult.EMPTY, resolver.resolve());
+        assertFalse(board.hasDirtyCells());
+        assertTrue(board.isOccupied(1, 7));
+    }
+
+    @Test
+    void crossingWordsClearTheirSharedCellOnceAndScoreTheCrossing() {
+        place('c', 0, 7);
+        place('a', 1, 7);
+        place('t', 2, 7); // shared by cat and bat
+        place('b', 2, 5);
+        place('a', 2, 6);
+        board.markDirty(2, 7);
+
+        CascadeResult result = resolver.resolve();
+
+        assertEquals(1, result.getWaves().size());
+        CascadeResult.Wave wave = result.getWaves().get(0);
+        assertEquals(2, wave.words.size());
+        assertTrue(wave.words.containsAll(List.of("cat", "bat")));
+        assertEquals(5, wave.cleared.size());
+        // 5 distinct cells plus 1 crossing, 10 points each
+        assertEquals(60, result.getPoints());
+        for (int col = 0; col < 5; col++) assertEquals(0, board.getHeight(col));
+    }
+
+    @Test
+    void blocksFallingIntoAWordStartAHigherWave() {
+        // Column 0 reads c a z t; clearing zag lets c and a fall onto t
+        place('c', 0, 4);
+        place('a', 0, 5);
+        place('z', 0, 6);
+        place('t', 0, 7);
+        place('a', 1, 6);
+        place('g', 2, 6);
+        place('q', 1, 7);
+        place('q', 2, 7);
+        board.markDirty(0, 6);
+
+        CascadeResult result = resolver.resolve();
+
+        List<CascadeResult.Wave> waves = result.getWaves();
+        assertEquals(2, waves.size());
+        assertEquals(List.of("zag"), waves.get(0).words);
+        assertEquals(1, waves.get(0).multiplier);
+        assertEquals(30, waves.get(0).points);
+        assertEquals(2, waves.get(0).fallen.size());
+
+        assertEquals(List.of("cat"), waves.get(1).words);
+        assertEquals(2, waves.get(1).multiplier);
+        assertEquals(60, waves.get(1).points);
+        assertEquals(90, result.getPoints());
+
+        assertEquals(0, board.getHeight(0));
+        assertEquals('q', board.getCell(1, 7).getBlock().getLetter());
+    }
+
+    private void place(char letter, int col, int row) {
+        LetterBlock block = new LetterBlock(letter);
+        block.setCol(col);
+        block.setRow(row);
+        assertTrue(board.placeBlock(block));
+    }
+}
@@ -0,0 +1,71 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks how a wave's words are merged into cells to clear and crossings to score.
+ */
+class ClearMaskTest {
+
+    @Test
+    void emptyMaskHasNoCells() {
+        ClearMask mask = new ClearMask(5, 8);
+        assertTrue(mask.isEmpty());
+        assertEquals(0, mask.cellCount());
+        assertEquals(-1, mask.nextCell(0));
+    }
+
+    @Test
+    void crossingWordsShareTheirCellOnceAndScoreIt() {
+        ClearMask mask = new ClearMask(5, 8);
+        mask.addWord(0, 7, 3, Direction.RIGHT); // (0,7) (1,7) (2,7)
+        mask.addWord(2, 5, 3, Direction.DOWN);  // (2,5) (2,6) (2,7)
+
+        assertFalse(mask.isEmpty());
+        assertEquals(5, mask.cellCount());
+        assertEquals(1, mask.crossingCount());
+    }
+
+    @Test
+    void nestedWordsOnOneLineAreNotCrossings() {
+        ClearMask mask = new ClearMask(5, 8);
+        mask.addWord(0, 7, 3, Direction.RIGHT); // cat
+        mask.addWord(0, 7, 4, Direction.RIGHT); // cats
+
+        assertEquals(4, mask.cellCount());
+        assertEquals(0, mask.crossingCount());
+    }
+
+    @Test
+    void cellsAreVisitedColumnByColumn() {
+        ClearMask mask = new ClearMask(3, 4);
+        mask.addWord(0, 3, 3, Direction.RIGHT);
+        mask.addWord(1, 0, 3, Direction.DOWN);
+
+        List<String> cells = new ArrayList<>();
+        for (int i = mask.nextCell(0); i >= 0; i = mask.nextCell(i + 1)) {
+            cells.add(mask.colOf(i) + "," + mask.rowOf(i));
+        }
+        assertEquals(List.of("0,3", "1,0", "1,1", "1,2", "1,3", "2,3"), cells);
+    }
+
+    @Test
+    void worksAcrossLongWordBoundaries() {
+        // 64 x 256 cells span many longs; a word in the last column must still land
+        ClearMask mask = new ClearMask(GameBoard.MAX_COLS, GameBoard.MAX_ROWS);
+        mask.addWord(GameBoard.MAX_COLS - 3, GameBoard.MAX_ROWS - 1, 3, Direction.RIGHT);
+        mask.addWord(GameBoard.MAX_COLS - 1, GameBoard.MAX_ROWS - 3, 3, Direction.DOWN);
+
+        assertEquals(5, mask.cellCount());
+        assertEquals(1, mask.crossingCount());
+        int last = mask.nextCell(0);
+        assertEquals(GameBoard.MAX_COLS - 3, mask.colOf(last));
+        assertEquals(GameBoard.MAX_ROWS - 1, mask.rowOf(last));
+    }
+}
@@ -0,0 +1,71 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the scheduler on real threads to check its catch-up after a stall and that a restart never leaves two loops.
+ */
+class FixedStepSchedulerTest {
+
+    @Test
+    void aStallIsMadeUpWithABoundedBurstAndTheRestIsDropped() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        FixedStepScheduler scheduler = new FixedStepScheduler("test-loop", () -> {
+            if (ticks.incrementAndGet() == 1) sleep(200); // a 40-step stall
+        }, 5);
+
+        scheduler.start();
+        sleep(300);
+        scheduler.stop();
+
+        // At most MAX_CATCH_UP of the ~40 missed steps are run, the rest dropped
+        long dropped = scheduler.getDroppedTicks();
+        assertTrue(dropped >= 40 - FixedStepScheduler.MAX_CATCH_UP - 10, "dropped " + dropped);
+        assertTrue(dropped <= 40, "dropped " + dropped);
+        assertTrue(ticks.get() > FixedStepScheduler.MAX_CATCH_UP, "ticks " + ticks.get());
+    }
+
+    @Test
+    void restartingFromInsideATickLeavesOneLoopRunning() throws InterruptedException {
+        AtomicInteger ticks = new AtomicInteger();
+        Set<Thread> laterThreads = ConcurrentHashMap.newKeySet();
+        Thread[] first = new Thread[1];
+        FixedStepScheduler[] holder = new FixedStepScheduler[1];
+
+        FixedStepScheduler scheduler = new FixedStepScheduler("test-loop", () -> {
+            if (ticks.incrementAndGet() == 1) {
+                first[0] = Thread.currentThread();
+                holder[0].stop();
+                holder[0].start();
+            } else {
+                laterThreads.add(Thread.currentThread());
+            }
+        }, 5);
+        holder[0] = scheduler;
+
+        scheduler.start();
+        sleep(150);
+        scheduler.stop();
+        first[0].join(1000);
+
+        assertFalse(first[0].isAlive());
+        assertEquals(1, laterThreads.size());
+        assertNotSame(first[0], laterThreads.iterator().next());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the board's bulk gravity on small and tall boards, and its column heights.
+ */
+class GameBoardTest {
+
+    private static Dictionary dictionary;
+
+    private GameBoard board;
+
+    @BeforeAll
+    static void loadDictionary() {
+        dictionary = new Dictionary();
+    }
+
+    @BeforeEach
+    void newBoard() {
+        board = new GameBoard(dictionary, 5, 8);
+    }
+
+    @Test
+    void settleDropsEveryBlockStraightToItsFinalRow() {
+        LetterBlock top = place('a', 0, 2);
+        LetterBlock lower = place('b', 0, 5);
+        place('c', 1, 6);
+        place('d', 1, 7); // already settled
+
+        List<GravityMove> moves = board.settle();
+
+        assertEquals(2, moves.size());
+        assertSame(lower, moves.get(0).block);
+        assertEquals(5, moves.get(0).fromRow);
+        assertEquals(7, moves.get(0).toRow);
+        assertSame(top, moves.get(1).block);
+        assertEquals(6, moves.get(1).toRow);
+
+        assertSame(lower, board.blockAt(0, 7));
+        assertSame(top, board.blockAt(0, 6));
+        assertEquals(6, top.getRow());
+        assertFalse(board.isOccupied(0, 2));
+        assertFalse(board.isOccupied(0, 5));
+        assertEquals(2, board.getHeight(0));
+        assertEquals(board.computeHash(), board.getHash());
+    }
+
+    @Test
+    void settleOnASettledBoardMovesNothing() {
+        place('a', 2, 7);
+        place('b', 2, 6);
+        long hash = board.getHash();
+
+        assertTrue(board.settle().isEmpty());
+        assertEquals(hash, board.getHash());
+        assertFalse(board.hasDirtyCells());
+    }
+
+    @Test
+    void settleCompactsColumnsTallerThanOneOccupancyWord() {
+        board = new GameBoard(dictionary, 3, 200);
+        LetterBlock high = place('a', 1, 10);
+        LetterBlock middle = place('b', 1, 150);
+
+        board.settle();
+
+        assertEquals(199, middle.getRow());
+        assertEquals(198, high.getRow());
+        assertSame(high, board.blockAt(1, 198));
+        assertEquals(2, board.getHeight(1));
+        assertEquals(board.computeHash(), board.getHash());
+    }
+
+    @Test
+    void heightsFollowPlacementsAndClears() {
+        assertEquals(0, board.getHeight(2));
+        assertEquals(7, board.landingRow(2));
+
+        place('a', 2, 7);
+        place('b', 2, 6);
+        place('c', 2, 5);
+        assertEquals(3, board.getHeight(2));
+        assertEquals(4, board.landingRow(2));
+
+        board.clearCell(2, 6); // a hole leaves the height at the highest block
+        assertEquals(3, board.getHeight(2));
+
+        board.clearCell(2, 5);
+        assertEquals(1, board.getHeight(2));
+        assertEquals(6, board.landingRow(2));
+        assertEquals(0, board.getHeight(1));
+    }
+
+    @Test
+    void landingRowOfAFullColumnIsMinusOne() {
+        for (int row = 0; row < 8; row++) place('a', 3, row);
+
+        assertEquals(8, board.getHeight(3));
+        assertEquals(-1, board.landingRow(3));
+    }
+
+    @Test
+    void hardDropLandsOnTheStackInOneMove() {
+        place('a', 1, 7);
+        place('b', 1, 6);
+        LetterBlock falling = place('c', 1, 0);
+
+        assertEquals(5, board.hardDrop(falling));
+        assertEquals(5, falling.getRow());
+        assertSame(falling, board.blockAt(1, 5));
+        assertFalse(board.isOccupied(1, 0));
+        assertEquals(3, board.getHeight(1));
+    }
+
+    @Test
+    void hardDropOfABlockThatCannotFallLeavesItWhereItIs() {
+        place('a', 1, 7);
+        LetterBlock resting = place('b', 1, 6);
+
+        assertEquals(6, board.hardDrop(resting));
+        assertSame(resting, board.blockAt(1, 6));
+    }
+
+    @Test
+    void spawnIsBlockedOnlyOnceTheStackReachesTheSpawnRow() {
+        for (int row = 1; row < 8; row++) place('a', 2, row);
+        assertFalse(board.isSpawnBlocked(2, 0));
+        assertFalse(board.isSpawnBlocked(1, 0));
+        assertTrue(board.isSpawnBlocked(2, 1));
+
+        place('b', 2, 0);
+        assertTrue(board.isSpawnBlocked(2, 0));
+    }
+
+    private LetterBlock place(char letter, int col, int row) {
+        LetterBlock block = new LetterBlock(letter);
+        block.setCol(col);
+        block.setRow(row);
+        assertTrue(board.placeBlock(block));
+        return block;
+    }
+}
@@ -0,0 +1,112 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Drives a headless game loop with step() and checks what queued commands do to the board.
+ */
+class GameLoopTest {
+
+    private static final long SEED = 42;
+
+    private static Dictionary dictionary;
+
+    private GameBoard board;
+    private GameLoop loop;
+
+    @BeforeAll
+    static void loadDictionary() {
+        dictionary = new Dictionary();
+    }
+
+    @BeforeEach
+    void newGame() {
+        board = new GameBoard(dictionary, 5, 8);
+        loop = GameLoop.create(board, dictionary, GameListener.NONE, SEED);
+    }
+
+    @Test
+    void theFirstStepSpawnsAndPublishesABlock() {
+        assertFalse(loop.getPublishedBoard().isOccupied(2, 0));
+
+        loop.step();
+
+        assertNotNull(board.blockAt(2, 0));
+        assertSame(board.blockAt(2, 0), loop.getPublishedBoard().getBlock(2, 0));
+    }
+
+    @Test
+    void submittedCommandsWaitForTheNextStep() {
+        loop.step();
+        LetterBlock block = board.blockAt(2, 0);
+
+        loop.submit(GameCommand.MOVE_LEFT);
+        assertSame(block, board.blockAt(2, 0));
+        assertSame(block, loop.getPublishedBoard().getBlock(2, 0));
+    }
+
+    @Test
+    void commandsRunInOrderBeforeTheTick() {
+        loop.step();
+        LetterBlock block = board.blockAt(2, 0);
+
+        loop.submit(GameCommand.MOVE_LEFT);
+        loop.submit(GameCommand.MOVE_LEFT);
+        loop.submit(GameCommand.MOVE_RIGHT);
+        loop.step(); // two left and one right, then the tick moves it down
+
+        assertSame(block, board.blockAt(1, 1));
+        assertEquals(1, block.getCol());
+        assertSame(block, loop.getPublishedBoard().getBlock(1, 1));
+        assertFalse(loop.getPublishedBoard().isOccupied(2, 0));
+    }
+
+    @Test
+    void undoTakesBackTheLastBlockAndRespawnsTheFallingOne() {
+        loop.step(); // the first block spawns
+        loop.submit(GameCommand.HARD_DROP);
+        loop.step(); // it lands on the empty board and the second block spawns
+        LetterBlock second = board.blockAt(2, 0);
+        assertNotNull(second);
+        assertEquals(2, count());
+
+        loop.submit(GameCommand.UNDO);
+        loop.step(); // undone, then the tick moves the second block down a row
+
+        assertEquals(1, count());
+        assertSame(second, board.blockAt(2, 1));
+        assertEquals(1, second.getRow());
+        assertSame(loop.getPublishedBoard().getBlock(2, 1), second);
+    }
+
+    @Test
+    void undoWithNothingLandedDoesNothing() {
+        loop.step();
+        loop.step();
+        LetterBlock first = board.blockAt(2, 1);
+        assertNotNull(first);
+
+        loop.submit(GameCommand.UNDO);
+        loop.step();
+
+        assertSame(first, board.blockAt(2, 2));
+        assertFalse(loop.isGameOver());
+    }
+
+    private int count() {
+        int blocks = 0;
+        for (int col = 0; col < board.getColCount(); col++) {
+            for (int row = 0; row < board.getRowCount(); row++) {
+                if (board.isOccupied(col, row)) blocks++;
+            }
+        }
+        return blocks;
+    }
+}
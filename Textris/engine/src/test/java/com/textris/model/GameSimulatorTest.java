@@ -0,0 +1,50 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that a simulated game depends on its seed alone, not on the games played before it.
+ */
+class GameSimulatorTest {
+
+    private static Dictionary dictionary;
+
+    @BeforeAll
+    static void loadDictionary() {
+        dictionary = new Dictionary();
+    }
+
+    @Test
+    void aSeedPlaysTheSameGameWhateverWasPlayedBefore() {
+        for (PlacementPolicy policy : new PlacementPolicy[] { PlacementPolicy.RANDOM, PlacementPolicy.LOWEST }) {
+            GameSimulator fresh = new GameSimulator(dictionary, 5, 8, policy);
+            GameSimulator used = new GameSimulator(dictionary, 5, 8, policy);
+            used.play(LetterGenerator.gameSeed(42, 1), new SimulationReport());
+            used.play(LetterGenerator.gameSeed(42, 2), new SimulationReport());
+
+            SimulationReport first = new SimulationReport();
+            SimulationReport second = new SimulationReport();
+            fresh.play(LetterGenerator.gameSeed(42, 0), first);
+            used.play(LetterGenerator.gameSeed(42, 0), second);
+
+            assertEquals(1, first.getGames());
+            assertTrue(first.getMeanBlocks() > 0);
+            assertEquals(first.toString(), second.toString());
+        }
+    }
+
+    @Test
+    void aBatchGivesTheSameReportInAnyOrder() {
+        GameSimulator simulator = new GameSimulator(dictionary, 5, 8, PlacementPolicy.LOWEST);
+        SimulationReport forward = new SimulationReport();
+        SimulationReport backward = new SimulationReport();
+        for (int game = 0; game < 20; game++) simulator.play(LetterGenerator.gameSeed(7, game), forward);
+        for (int game = 19; game >= 0; game--) simulator.play(LetterGenerator.gameSeed(7, game), backward);
+
+        assertEquals(forward.toString(), backward.toString());
+    }
+}
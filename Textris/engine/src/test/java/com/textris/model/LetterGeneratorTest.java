@@ -0,0 +1,49 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that letters, split streams and batch seeds depend on the seed alone.
+ */
+class LetterGeneratorTest {
+
+    @Test
+    void theSameSeedDealsTheSameLetters() {
+        LetterGenerator first = new LetterGenerator(5);
+        LetterGenerator second = new LetterGenerator(5);
+        for (int i = 0; i < 1000; i++) assertEquals(first.nextLetter(), second.nextLetter());
+    }
+
+    @Test
+    void splittingNeverShiftsTheLetters() {
+        LetterGenerator plain = new LetterGenerator(5);
+        LetterGenerator split = new LetterGenerator(5);
+        split.nextLetter();
+        split.split().nextLong();
+        plain.nextLetter();
+
+        for (int i = 0; i < 1000; i++) assertEquals(plain.nextLetter(), split.nextLetter());
+    }
+
+    @Test
+    void splitStreamsDependOnTheSeedAndHowManyCameBefore() {
+        LetterGenerator first = new LetterGenerator(5);
+        LetterGenerator second = new LetterGenerator(5);
+        second.nextLetter(); // letters drawn do not matter
+
+        long a = first.split().nextLong();
+        assertEquals(a, second.split().nextLong());
+        assertNotEquals(a, first.split().nextLong());
+        assertNotEquals(a, new LetterGenerator(6).split().nextLong());
+    }
+
+    @Test
+    void gameSeedsAreStableAndDistinct() {
+        assertEquals(LetterGenerator.gameSeed(42, 7), LetterGenerator.gameSeed(42, 7));
+        assertNotEquals(LetterGenerator.gameSeed(42, 7), LetterGenerator.gameSeed(42, 8));
+        assertNotEquals(LetterGenerator.gameSeed(42, 7), LetterGenerator.gameSeed(43, 7));
+    }
+}
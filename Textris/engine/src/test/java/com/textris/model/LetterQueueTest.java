@@ -0,0 +1,65 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the preview ring and the vowel droughts of bag mode over long seeded runs.
+ */
+class LetterQueueTest {
+
+    private static final int DRAWS = 100_000;
+
+    @Test
+    void previewShowsTheLettersPopNextDeals() {
+        LetterQueue queue = new LetterQueue(new LetterGenerator(7), 3, 0);
+        for (int round = 0; round < 10; round++) {
+            String preview = queue.preview();
+            assertEquals(3, preview.length());
+            assertEquals(preview.charAt(0), queue.peek(0));
+            assertEquals(preview.charAt(0), queue.pop());
+            assertEquals(preview.substring(1), queue.preview().substring(0, 2));
+        }
+    }
+
+    @Test
+    void bagModeNeverGoesLongerThanMaxDroughtWithoutAVowel() {
+        LetterQueue queue = new LetterQueue(new LetterGenerator(7), 3, 2);
+        assertTrue(queue.isBagMode());
+        assertTrue(longestDrought(queue) <= 2);
+    }
+
+    @Test
+    void plainModeLeavesDroughtsUnbounded() {
+        LetterQueue queue = new LetterQueue(new LetterGenerator(7), 3, 0);
+        assertFalse(queue.isBagMode());
+        assertTrue(longestDrought(queue) > 2); // so the bag mode check above means something
+    }
+
+    @Test
+    void bagModeIsReproducibleFromTheSeed() {
+        LetterQueue first = new LetterQueue(new LetterGenerator(11), 3, 2);
+        LetterQueue second = new LetterQueue(new LetterGenerator(11), 3, 2);
+        for (int i = 0; i < 1000; i++) assertEquals(first.pop(), second.pop());
+    }
+
+    @Test
+    void rejectsAnEmptyPreviewAndANegativeDrought() {
+        assertThrows(IllegalArgumentException.class, () -> new LetterQueue(new LetterGenerator(1), 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LetterQueue(new LetterGenerator(1), 3, -1));
+    }
+
+    private static int longestDrought(LetterQueue queue) {
+        int longest = 0;
+        int drought = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            drought = LetterQueue.isVowel(queue.pop()) ? 0 : drought + 1;
+            longest = Math.max(longest, drought);
+        }
+        return longest;
+    }
+}
@@ -0,0 +1,63 @@
+package com.textris.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the table's slots, replacement and hit counters, and that GREEDY scores the same with or without them.
+ */
+class TranspositionTableTest {
+
+    @Test
+    void capacityRoundsUpToAPowerOfTwo() {
+        assertEquals(16, new TranspositionTable(9).capacity());
+        assertEquals(16, new TranspositionTable(16).capacity());
+    }
+
+    @Test
+    void probeFindsOnlyTheHashStoredInItsSlot() {
+        TranspositionTable table = new TranspositionTable(16);
+        table.store(3, 30);
+
+        assertEquals(30, table.probe(3, -1));
+        assertEquals(-1, table.probe(4, -1));
+        assertEquals(-1, table.probe(3 + 16, -1)); // same slot, different hash
+
+        table.store(3 + 16, 50); // replaces the entry sharing its slot
+        assertEquals(-1, table.probe(3, -1));
+        assertEquals(50, table.probe(3 + 16, -1));
+
+        assertEquals(2, table.getHits());
+        assertEquals(3, table.getMisses());
+        assertEquals(0.4, table.getHitRate(), 1e-9);
+    }
+
+    @Test
+    void clearEmptiesTheTableAndResetsTheCounters() {
+        TranspositionTable table = new TranspositionTable(4);
+        table.store(1, 10);
+        table.probe(1, -1);
+        table.clear();
+
+        assertEquals(-1, table.probe(1, -1));
+        assertEquals(0, table.getHits());
+        assertEquals(1, table.getMisses());
+    }
+
+    @Test
+    void memoizedGreedyGamesMatchUnmemoizedOnes() {
+        Dictionary dictionary = new Dictionary();
+        SimulationReport cached = new SimulationReport();
+        SimulationReport uncached = new SimulationReport();
+        GameSimulator withTable = new GameSimulator(dictionary, 5, 8, PlacementPolicy.GREEDY);
+        GameSimulator withoutTable = new GameSimulator(dictionary, 5, 8, new GreedyPolicy(2));
+
+        for (long seed = 1; seed <= 20; seed++) {
+            withTable.play(seed, cached);
+            withoutTable.play(seed, uncached);
+        }
+
+        assertEquals(uncached.toString(), cached.toString());
+    }
+}
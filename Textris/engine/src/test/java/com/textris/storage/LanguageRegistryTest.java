@@ -0,0 +1,106 @@
+package com.textris.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that the registry loads languages lazily and evicts the least recently used one once over budget.
+ */
+class LanguageRegistryTest {
+
+    private static final String WEIGHTS = "/weightsCumulative.txt";
+
+    @TempDir
+    Path folder;
+
+    @BeforeEach
+    void writeWordLists() throws IOException {
+        Files.write(folder.resolve("aa.txt"), List.of("cat", "dog", "sun"));
+        Files.write(folder.resolve("bb.txt"), List.of("hat", "log", "run", "tree"));
+        Files.write(folder.resolve("cc.txt"), List.of("map", "pen"));
+    }
+
+    @Test
+    void theLeastRecentlyUsedLanguageIsEvictedFirst() throws IOException {
+        long budget = charged("aa") + charged("bb") + charged("cc") - 1;
+        LanguageRegistry registry = registry(budget);
+
+        LanguagePack aa = registry.get("aa");
+        registry.get("bb");
+        assertSame(aa, registry.get("aa")); // aa is now more recent than bb
+        LanguagePack cc = registry.get("cc");
+
+        List<String> report = registry.report();
+        assertEquals(2, report.size());
+        assertTrue(report.get(0).startsWith("aa:"));
+        assertTrue(report.get(1).startsWith("cc:"));
+        assertEquals(aa.getChargedBytes() + cc.getChargedBytes(), registry.getResidentBytes());
+        assertTrue(registry.getResidentBytes() <= budget);
+    }
+
+    @Test
+    void anEvictedLanguageIsLoadedAgainAndGamesKeepTheOldPack() throws IOException {
+        LanguageRegistry registry = registry(charged("bb"));
+
+        LanguagePack first = registry.get("bb");
+        registry.get("cc"); // over budget, so bb goes
+        assertEquals(1, registry.report().size());
+        assertTrue(first.getWords().isValid("tree"));
+
+        LanguagePack again = registry.get("bb");
+        assertNotSame(first, again);
+        assertTrue(again.getWords().isValid("tree"));
+    }
+
+    @Test
+    void theLanguageJustLoadedIsKeptEvenOverBudget() throws IOException {
+        LanguageRegistry registry = registry(0);
+
+        LanguagePack aa = registry.get("aa");
+        assertSame(aa, registry.get("aa"));
+        assertEquals(aa.getChargedBytes(), registry.getResidentBytes());
+
+        registry.get("bb");
+        assertEquals(1, registry.report().size());
+        assertTrue(registry.report().get(0).startsWith("bb:"));
+    }
+
+    @Test
+    void registeringAgainDropsTheLoadedPack() throws IOException {
+        LanguageRegistry registry = registry(Long.MAX_VALUE);
+        registry.get("aa");
+
+        registry.register("aa", folder.resolve("cc.txt").toString(), WEIGHTS);
+
+        assertEquals(0, registry.getResidentBytes());
+        assertTrue(registry.get("aa").getWords().isValid("pen"));
+    }
+
+    @Test
+    void anUnknownLanguageIsAnError() {
+        assertThrows(IOException.class, () -> registry(Long.MAX_VALUE).get("xx"));
+    }
+
+    private LanguageRegistry registry(long budget) {
+        LanguageRegistry registry = new LanguageRegistry(budget);
+        for (String language : new String[] { "aa", "bb", "cc" }) {
+            registry.register(language, folder.resolve(language + ".txt").toString(), WEIGHTS);
+        }
+        return registry;
+    }
+
+    private long charged(String language) throws IOException {
+        return registry(Long.MAX_VALUE).get(language).getChargedBytes();
+    }
+}
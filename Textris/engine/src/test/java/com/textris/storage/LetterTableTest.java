@@ -0,0 +1,95 @@
+package com.textris.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.textris.model.LetterGenerator;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Scanner;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that the flat letter table deals the same letters as the TreeMap it replaced, with the file's weights.
+ */
+class LetterTableTest {
+
+    /** z-score of the 0.1% upper tail of the standard normal distribution. */
+    private static final double Z_999 = 3.0902;
+
+    private static URL weights;
+    private static LetterTable table;
+
+    @BeforeAll
+    static void loadTable() throws IOException {
+        weights = LetterTableTest.class.getResource("/weightsCumulative.txt");
+        table = new LetterTable(weights);
+    }
+
+    @Test
+    void everyNumberMapsToTheSameLetterAsATreeMapLookup() throws IOException {
+        TreeMap<Integer, Character> reference = readReference(weights);
+        for (int number = 0; number < table.getUpperBound(); number++) {
+            assertEquals(reference.ceilingEntry(number).getValue(), table.getLetter(number), "number " + number);
+        }
+    }
+
+    @Test
+    void seededDrawsFitTheWeights() {
+        int draws = 1_000_000;
+        LetterTable previous = LetterWeights.getTable();
+        LetterWeights.setTable(table);
+        long[] observed = new long[26];
+        try {
+            LetterGenerator generator = new LetterGenerator(42);
+            for (int i = 0; i < draws; i++) observed[generator.nextLetter() - 'a']++;
+        } finally {
+            LetterWeights.setTable(previous);
+        }
+
+        double chiSquare = 0;
+        int categories = 0;
+        for (int i = 0; i < observed.length; i++) {
+            double expected = table.getProbability((char) ('a' + i)) * draws;
+            if (expected == 0) {
+                assertEquals(0, observed[i], "letter " + (char) ('a' + i) + " has no weight");
+                continue;
+            }
+            double diff = observed[i] - expected;
+            chiSquare += diff * diff / expected;
+            categories++;
+        }
+
+        double critical = chiSquareCritical(categories - 1);
+        assertTrue(chiSquare < critical, "chi-square " + chiSquare + " >= " + critical);
+    }
+
+    /**
+     * Reads a weights file into a TreeMap the way LetterTable used to.
+     */
+    private static TreeMap<Integer, Character> readReference(URL location) throws IOException {
+        TreeMap<Integer, Character> reference = new TreeMap<>();
+        try (InputStream input = location.openStream(); Scanner reader = new Scanner(input)) {
+            char currentLetter = 'a';
+            while (reader.hasNextLine()) {
+                String data = reader.nextLine().trim();
+                if (data.isEmpty()) continue;
+                reference.put(Integer.parseInt(data), currentLetter++);
+            }
+        }
+        return reference;
+    }
+
+    /**
+     * Approximates the 0.1% critical value of the chi-square distribution
+     * (Wilson-Hilferty).
+     */
+    private static double chiSquareCritical(int df) {
+        double v = 2.0 / (9.0 * df);
+        double cube = 1 - v + Z_999 * Math.sqrt(v);
+        return df * cube * cube * cube;
+    }
+}
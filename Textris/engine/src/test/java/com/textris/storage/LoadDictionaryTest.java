@@ -0,0 +1,66 @@
+package com.textris.storage;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Checks that reloading the word list swaps snapshots without disturbing lookups on the old one.
+ */
+class LoadDictionaryTest {
+
+    @TempDir
+    Path folder;
+
+    @BeforeAll
+    static void loadDictionary() throws IOException {
+        LoadDictionary.load();
+    }
+
+    @AfterEach
+    void restoreTheBuiltInWordList() throws IOException, URISyntaxException {
+        // The dictionary is shared by every test class, so put the real words back
+        LoadDictionary.reload(Paths.get(LoadDictionary.class.getResource("/Twordlist.bin").toURI()));
+    }
+
+    @Test
+    void reloadSwapsInTheNewWordsAndLeavesTheOldSnapshotIntact() throws IOException {
+        DictionarySnapshot before = LoadDictionary.snapshot();
+        assertTrue(before.isValid("house"));
+
+        Path wordList = folder.resolve("words.txt");
+        Files.write(wordList, List.of("qwxz", "house"));
+        DictionarySnapshot after = LoadDictionary.reload(wordList);
+
+        assertSame(after, LoadDictionary.snapshot());
+        assertTrue(after.getVersion() > before.getVersion());
+        assertTrue(LoadDictionary.findWord("qwxz"));
+        assertFalse(LoadDictionary.findWord("tree"));
+
+        // A holder of the old snapshot keeps answering from the old words
+        assertTrue(before.isValid("tree"));
+        assertFalse(before.isValid("qwxz"));
+    }
+
+    @Test
+    void aFailedReloadKeepsTheCurrentSnapshot() {
+        DictionarySnapshot before = LoadDictionary.snapshot();
+
+        assertThrows(IOException.class, () -> LoadDictionary.reload(folder.resolve("missing.txt")));
+
+        assertSame(before, LoadDictionary.snapshot());
+        assertTrue(LoadDictionary.findWord("tree"));
+    }
+}
@@ -0,0 +1,67 @@
+package com.textris.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks packing, lookups and the compiled key list.
+ */
+class PackedWordSetTest {
+
+    @Test
+    void packAndUnpackRoundTrip() {
+        char[] buf = new char[PackedWordSet.MAX_LENGTH];
+        for (String word : new String[] { "a", "cat", "zzz", "abcdefghijkl" }) {
+            long key = PackedWordSet.pack(word);
+            assertEquals(word, new String(buf, 0, PackedWordSet.unpack(key, buf)));
+        }
+        assertEquals(PackedWordSet.pack("cat"), PackedWordSet.pack("CAT"));
+        assertEquals(PackedWordSet.pack("cat"), PackedWordSet.pack("xcatx".toCharArray(), 1, 3));
+    }
+
+    @Test
+    void rejectsWordsThatCannotBePacked() {
+        assertEquals(PackedWordSet.INVALID, PackedWordSet.pack(""));
+        assertEquals(PackedWordSet.INVALID, PackedWordSet.pack("it's"));
+        assertEquals(PackedWordSet.INVALID, PackedWordSet.pack("abcdefghijklm"));
+    }
+
+    @Test
+    void keysOfDifferentLengthsNeverCollide() {
+        assertTrue(PackedWordSet.pack("a") != PackedWordSet.pack("aa"));
+        assertTrue(PackedWordSet.pack("ab") != PackedWordSet.pack("b"));
+    }
+
+    @Test
+    void findsOnlyTheStoredWords() {
+        PackedWordSet set = PackedWordSet.build(new String[] { "cat", "dog", "it's", "cat" });
+        assertEquals(2, set.size());
+        assertTrue(set.contains("cat"));
+        assertTrue(set.contains("xdogx".toCharArray(), 1, 3));
+        assertFalse(set.contains("ca"));
+        assertFalse(set.contains("cats"));
+        assertFalse(set.contains("it's"));
+    }
+
+    @Test
+    void everyWordOfTheWordListIsFound() throws IOException {
+        long[] keys = WordTrieTest.readKeys();
+        PackedWordSet set = PackedWordSet.fromKeys(keys, keys.length);
+        assertEquals(keys.length, set.size());
+        for (long key : keys) assertTrue(set.contains(key));
+    }
+
+    @Test
+    void compileSortsDeduplicatesAndSkipsWordsTooLongToPack() throws IOException {
+        long[] keys = DictionaryCompiler.compile(new BufferedReader(new StringReader(
+                "dog\r\ncat\n\nCAT\nextraordinarily\nit's\n")));
+        assertArrayEquals(new long[] { PackedWordSet.pack("cat"), PackedWordSet.pack("dog") }, keys);
+    }
+}
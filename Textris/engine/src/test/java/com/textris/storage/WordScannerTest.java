@@ -0,0 +1,81 @@
+package com.textris.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks that one scan of a line reports exactly the words a window-by-window
+ * search of the word list finds.
+ */
+class WordScannerTest {
+
+    private static Set<String> words;
+    private static WordScanner scanner;
+
+    @BeforeAll
+    static void buildScanner() throws IOException {
+        long[] keys = WordTrieTest.readKeys();
+        words = new HashSet<>();
+        char[] buf = new char[PackedWordSet.MAX_LENGTH];
+        for (long key : keys) {
+            words.add(new String(buf, 0, PackedWordSet.unpack(key, buf)));
+        }
+        scanner = WordScanner.build(keys, keys.length);
+    }
+
+    @Test
+    void reportsEveryWordInRandomLines() {
+        Random random = new Random(11);
+        for (int n = 0; n < 5_000; n++) {
+            char[] line = new char[1 + random.nextInt(64)];
+            for (int i = 0; i < line.length; i++) {
+                // Mostly letters, with the odd empty cell breaking the line
+                line[i] = random.nextInt(12) == 0 ? ' ' : (char) ('a' + random.nextInt(26));
+            }
+            assertEquals(windowSearch(line), scan(line), new String(line));
+        }
+    }
+
+    @Test
+    void reportsOverlappingAndNestedWords() {
+        Set<String> found = scan("xcatsx".toCharArray());
+        assertTrue(found.contains("1+3")); // cat
+        assertTrue(found.contains("1+4")); // cats
+        assertEquals(windowSearch("xcatsx".toCharArray()), found);
+    }
+
+    @Test
+    void scansOnlyTheGivenRange() {
+        char[] line = "catdog".toCharArray();
+        List<String> hits = new ArrayList<>();
+        scanner.scan(line, 3, 3, (start, length) -> hits.add(new String(line, 3 + start, length)));
+        assertTrue(hits.contains("dog"));
+        assertFalse(hits.contains("cat"));
+    }
+
+    private static Set<String> scan(char[] line) {
+        Set<String> hits = new HashSet<>();
+        scanner.scan(line, 0, line.length, (start, length) -> hits.add(start + "+" + length));
+        return hits;
+    }
+
+    private static Set<String> windowSearch(char[] line) {
+        Set<String> hits = new HashSet<>();
+        for (int start = 0; start < line.length; start++) {
+            for (int len = 1; len <= PackedWordSet.MAX_LENGTH && start + len <= line.length; len++) {
+                if (words.contains(new String(line, start, len))) hits.add(start + "+" + len);
+            }
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,110 @@
+package com.textris.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Checks the DAWG's exact, prefix and suffix queries against the bundled word list.
+ */
+class WordTrieTest {
+
+    private static long[] keys;
+    private static Set<String> words;
+    private static WordTrie trie;
+
+    @BeforeAll
+    static void buildIndex() throws IOException {
+        keys = readKeys();
+        words = new HashSet<>();
+        char[] buf = new char[PackedWordSet.MAX_LENGTH];
+        for (long key : keys) {
+            words.add(new String(buf, 0, PackedWordSet.unpack(key, buf)));
+        }
+        trie = WordTrie.build(keys, keys.length);
+    }
+
+    /**
+     * Reads the word list the game ships with, the same way the build compiles it.
+     */
+    static long[] readKeys() throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                WordTrieTest.class.getResourceAsStream("/Twordlist.txt"), StandardCharsets.UTF_8))) {
+            return DictionaryCompiler.compile(reader);
+        }
+    }
+
+    @Test
+    void containsEveryWordOfTheList() {
+        for (String word : words) {
+            assertTrue(trie.contains(word), word);
+            assertTrue(trie.contains(word.toUpperCase()), word);
+        }
+    }
+
+    @Test
+    void everyPrefixAndSuffixOfAWordIsFound() {
+        for (String word : words) {
+            for (int i = 1; i <= word.length(); i++) {
+                assertTrue(trie.hasPrefix(word.substring(0, i)), word);
+                assertTrue(trie.hasSuffix(word.substring(word.length() - i)), word);
+            }
+        }
+    }
+
+    @Test
+    void randomStringsMatchTheWordList() {
+        Set<String> prefixes = new HashSet<>();
+        Set<String> suffixes = new HashSet<>();
+        for (String word : words) {
+            for (int i = 1; i <= word.length(); i++) {
+                prefixes.add(word.substring(0, i));
+                suffixes.add(word.substring(word.length() - i));
+            }
+        }
+
+        Random random = new Random(7);
+        char[] buf = new char[6];
+        for (int n = 0; n < 200_000; n++) {
+            int len = 1 + random.nextInt(buf.length);
+            for (int i = 0; i < len; i++) buf[i] = (char) ('a' + random.nextInt(26));
+            String s = new String(buf, 0, len);
+
+            assertEquals(words.contains(s), trie.contains(s), s);
+            assertEquals(words.contains(s), trie.contains(buf, 0, len), s);
+            assertEquals(prefixes.contains(s), trie.hasPrefix(s), s);
+            assertEquals(prefixes.contains(s), trie.hasPrefix(buf, 0, len), s);
+            assertEquals(suffixes.contains(s), trie.hasSuffix(s), s);
+            assertEquals(suffixes.contains(s), trie.hasSuffix(buf, 0, len), s);
+        }
+    }
+
+    @Test
+    void stepWalksOneLetterAtATime() {
+        int node = WordTrie.ROOT;
+        for (char c : "cat".toCharArray()) node = trie.step(node, c);
+        assertTrue(trie.isTerminal(node));
+
+        assertEquals(WordTrie.NONE, trie.step(WordTrie.ROOT, '1'));
+        assertEquals(WordTrie.NONE, trie.step(WordTrie.NONE, 'a'));
+        assertFalse(trie.isTerminal(WordTrie.NONE));
+    }
+
+    @Test
+    void emptyListHasNoWords() {
+        WordTrie empty = WordTrie.build(new long[0], 0);
+        assertFalse(empty.contains("cat"));
+        assertFalse(empty.hasPrefix("c"));
+        assertFalse(empty.hasSuffix("t"));
+    }
+}
@@ -2,6 +2,7 @@ package com.textris;
 
 import javafx.application.Application;
 import com.textris.ui.MainMenuUI;
+import com.textris.ui.StartupOrchestrator;
 
 /**
  * This class starts the program.
@@ -22,6 +23,8 @@ public class Main {
     public static void main(String[] args) throws InterruptedException{
         System.out.println("Launching textris game");
 
+        StartupOrchestrator.begin(); // Load dictionary, weights and logo while JavaFX starts
+
         Application.launch(MainMenuUI.class); // Launch JavaFX UI
 
         System.out.println("Exiting textris game.");
@@ -6,6 +6,7 @@ import javafx.geometry.Pos;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 
@@ -13,7 +14,8 @@ import javafx.scene.text.Text;
  * This class uses JavaFX to define the graphics for a block.
  *
  * Responsibilities:
- * - Creates a rectangle for the block
+ * - Creates a rectangle for the block, exactly one cell in size (the stroke
+ *   is drawn inside it, so blocks never overlap their neighbors)
  * - Creates text field to match the letter of the LetterBlock
  *
  * Collaborators:
@@ -39,6 +41,7 @@ public class Block
         this.shape.setFill(color);
         shape.setStroke(strColor);
         shape.setStrokeWidth(5);
+        shape.setStrokeType(StrokeType.INSIDE);
         shape.setArcWidth(10); 
         shape.setArcHeight(10);
 
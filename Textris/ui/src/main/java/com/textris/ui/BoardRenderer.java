@@ -0,0 +1,105 @@
+package com.textris.ui;
+
+import com.textris.model.BoardSnapshot;
+import com.textris.model.CascadeResult;
+import com.textris.model.GravityMove;
+import com.textris.model.LetterBlock;
+import javafx.scene.layout.Pane;
+
+import java.util.List;
+
+/**
+ * Draws the blocks on the board for the GameWindow.
+ *
+ * Two renderers can be chosen with -Dtextris.renderer: "nodes" (the default)
+ * gives every block its own Block node in the scene graph, and "canvas"
+ * draws the whole board onto one Canvas from pre-rendered letter tiles.
+ * A renderer either follows the block events or paints the board the game
+ * loop publishes, handed to it on every frame. Every method is called on the
+ * FX thread.
+ *
+ * Responsibilities:
+ * - Shows spawned, moved, fallen and cleared blocks
+ * - Replays cascades
+ *
+ * Collaborators:
+ * - GameWindow
+ * - NodeBoardRenderer
+ * - CanvasBoardRenderer
+ */
+public interface BoardRenderer {
+
+    /**
+     * Creates the renderer named by -Dtextris.renderer.
+     *
+     * @param cols the number of board columns
+     * @param rows the number of board rows
+     * @return the renderer
+     */
+    static BoardRenderer fromProperties(int cols, int rows) {
+        String mode = System.getProperty("textris.renderer", "nodes");
+        if (mode.equalsIgnoreCase("canvas")) return new CanvasBoardRenderer(cols, rows);
+        return new NodeBoardRenderer();
+    }
+
+    /**
+     * Returns the name shown with the frame time statistics.
+     *
+     * @return the renderer name
+     */
+    String getName();
+
+    /**
+     * Puts the renderer's nodes into the game pane.
+     *
+     * @param pane the pane the board is drawn in
+     */
+    void attach(Pane pane);
+
+    /**
+     * Called on every frame with the board the game loop last published.
+     * Renderers that follow the block events ignore it.
+     *
+     * @param board the published board
+     */
+    default void paint(BoardSnapshot board) { }
+
+    /**
+     * Shows a new block.
+     *
+     * @param block the block
+     * @param col its column
+     * @param row its row
+     */
+    void addBlock(LetterBlock block, int col, int row);
+
+    /**
+     * Shows a block at a new position.
+     *
+     * @param block the block
+     * @param col its new column
+     * @param row its new row
+     */
+    void moveBlock(LetterBlock block, int col, int row);
+
+    /**
+     * Shows the blocks that fell in one gravity pass at their new rows.
+     *
+     * @param moves the moves
+     */
+    void placeFallen(List<GravityMove> moves);
+
+    /**
+     * Replays a resolved cascade: each wave flashes its cleared blocks,
+     * removes them and drops the fallen blocks to their new rows.
+     *
+     * @param result the cascade to animate
+     * @param onFinished callback invoked when the last wave has played
+     */
+    void playCascade(CascadeResult result, Runnable onFinished);
+
+    /**
+     * Removes every block.
+     */
+    void clear();
+}
@@ -0,0 +1,182 @@
+package com.textris.ui;
+
+import com.textris.media.Block;
+import com.textris.model.BoardSnapshot;
+import com.textris.model.CascadeResult;
+import com.textris.model.GravityMove;
+import com.textris.model.LetterBlock;
+import javafx.animation.KeyFrame;
+import javafx.animation.KeyValue;
+import javafx.animation.PauseTransition;
+import javafx.animation.SequentialTransition;
+import javafx.animation.Timeline;
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.util.Duration;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Draws the whole board onto a single Canvas.
+ *
+ * The renderer keeps no grid of its own: every frame it is handed the board
+ * the game loop published, and repaints the cells that differ from the
+ * snapshot it painted last. Columns the two snapshots still share are
+ * skipped without looking at their cells. Each letter's tile is rendered once
+ * from a Block into an Image and then copied with drawImage, so the scene
+ * graph holds one node however many blocks there are, and there is no
+ * per-block CSS, layout or picking.
+ * A Block is exactly one cell in size, so a tile covers its cell and nothing
+ * else and looks the same as the node renderer's block in that cell.
+ *
+ * Responsibilities:
+ * - Paints the changed cells of the published board from pre-rendered tiles
+ * - Animates cascades by repainting the flashing cells
+ *
+ * Collaborators:
+ * - Block
+ * - BoardSnapshot
+ * - GameWindow
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    private final Map<Character, Image> tiles = new HashMap<>();
+    private final Canvas canvas;
+    private final GraphicsContext graphics;
+    private BoardSnapshot shown; // the board on the canvas, or null to repaint every cell
+    private boolean animating;
+
+    /**
+     * Creates a renderer for a board size.
+     *
+     * @param cols the number of board columns
+     * @param rows the number of board rows
+     */
+    public CanvasBoardRenderer(int cols, int rows) {
+        this.canvas = new Canvas(cols * GameWindow.SIZE, rows * GameWindow.SIZE);
+        this.graphics = canvas.getGraphicsContext2D();
+    }
+
+    @Override
+    public String getName() {
+        return "canvas";
+    }
+
+    @Override
+    public void attach(Pane pane) {
+        pane.getChildren().add(0, canvas); // below the side panel and the overlay
+    }
+
+    @Override
+    public void paint(BoardSnapshot board) {
+        // The cascade animation owns the canvas until its last wave has played
+        if (animating || board == shown) return;
+
+        for (int col = 0; col < board.getColCount(); col++) {
+            if (shown != null && board.sharesColumn(shown, col)) continue;
+
+            for (int row = 0; row < board.getRowCount(); row++) {
+                if (shown != null && shown.getLetter(col, row) == board.getLetter(col, row)) continue;
+
+                LetterBlock block = board.getBlock(col, row);
+                paintCell(col, row, block == null ? 0 : block.getLetter(), 1.0);
+            }
+        }
+        shown = board;
+    }
+
+    @Override
+    public void addBlock(LetterBlock block, int col, int row) {
+        // Painted from the published board
+    }
+
+    @Override
+    public void moveBlock(LetterBlock block, int col, int row) {
+        // Painted from the published board
+    }
+
+    @Override
+    public void placeFallen(List<GravityMove> moves) {
+        // Painted from the published board
+    }
+
+    @Override
+    public void playCascade(CascadeResult result, Runnable onFinished) {
+        animating = true;
+        SequentialTransition chain = new SequentialTransition();
+
+        for (CascadeResult.Wave wave : result.getWaves()) {
+            // Same timing as the node renderer: fade to 0.2 and back in 400 ms
+            DoubleProperty alpha = new SimpleDoubleProperty(1.0);
+            alpha.addListener((observable, before, now) -> {
+                for (LetterBlock block : wave.cleared) {
+                    paintCell(block.getCol(), block.getRow(), block.getLetter(), now.doubleValue());
+                }
+            });
+            Timeline flash = new Timeline(
+                    new KeyFrame(Duration.ZERO, new KeyValue(alpha, 1.0)),
+                    new KeyFrame(Duration.millis(200), new KeyValue(alpha, 0.2)));
+            flash.setAutoReverse(true);
+            flash.setCycleCount(2);
+
+            // Blocks keep the cell they were cleared from, and a fallen
+            // block's column never changes, so the waves replay in order
+            flash.setOnFinished(e -> {
+                for (LetterBlock block : wave.cleared) paintCell(block.getCol(), block.getRow(), (char) 0, 1.0);
+                for (GravityMove move : wave.fallen) paintCell(move.block.getCol(), move.fromRow, (char) 0, 1.0);
+                for (GravityMove move : wave.fallen) {
+                    paintCell(move.block.getCol(), move.toRow, move.block.getLetter(), 1.0);
+                }
+            });
+
+            chain.getChildren().addAll(flash, new PauseTransition(Duration.millis(250)));
+        }
+
+        chain.setOnFinished(e -> {
+            // Whatever the waves left on the canvas, the next frame repaints
+            // it from the board published after the cascade
+            animating = false;
+            shown = null;
+            if (onFinished != null) onFinished.run();
+        });
+        chain.play();
+    }
+
+    @Override
+    public void clear() {
+        shown = null;
+        graphics.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    }
+
+    /**
+     * Paints one cell with a letter's tile, or clears it for letter 0.
+     */
+    private void paintCell(int col, int row, char letter, double alpha) {
+        double x = col * GameWindow.SIZE, y = row * GameWindow.SIZE;
+        graphics.clearRect(x, y, GameWindow.SIZE, GameWindow.SIZE);
+        if (letter == 0) return;
+
+        graphics.setGlobalAlpha(alpha);
+        graphics.drawImage(tile(letter), x, y);
+        graphics.setGlobalAlpha(1.0);
+    }
+
+    /**
+     * Returns the pre-rendered tile of a letter, rendering it the first time.
+     */
+    private Image tile(char letter) {
+        return tiles.computeIfAbsent(letter, key -> {
+            SnapshotParameters parameters = new SnapshotParameters();
+            parameters.setFill(Color.TRANSPARENT);
+            return new Block(key).getBlock().snapshot(parameters, null);
+        });
+    }
+}
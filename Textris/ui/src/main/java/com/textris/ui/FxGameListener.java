@@ -0,0 +1,92 @@
+package com.textris.ui;
+
+import com.textris.model.BoardSnapshot;
+import com.textris.model.CascadeResult;
+import com.textris.model.GameListener;
+import com.textris.model.GameLoop;
+import com.textris.model.GravityMove;
+import com.textris.model.LetterBlock;
+import com.textris.model.LetterQueue;
+
+import java.util.List;
+
+/**
+ * Shows the events of a game in the GameWindow.
+ *
+ * Events arrive on the game thread; every GameWindow call used here posts its
+ * work to the FX thread, so the game thread never waits on the screen.
+ *
+ * Responsibilities:
+ * - Forwards engine events to the GameWindow
+ * - Restarts the game from the game over overlay
+ *
+ * Collaborators:
+ * - GameWindow
+ * - GameLoop
+ */
+public class FxGameListener implements GameListener {
+
+    private volatile GameLoop gameLoop;
+
+    /**
+     * Sets the game loop restarted from the game over overlay.
+     *
+     * @param gameLoop the game loop
+     */
+    public void setGameLoop(GameLoop gameLoop) {
+        this.gameLoop = gameLoop;
+    }
+
+    @Override
+    public void gameStarted(long seed) {
+        GameWindow.showSeed(seed);
+    }
+
+    @Override
+    public void previewChanged(LetterQueue queue) {
+        GameWindow.showPreview(queue.preview());
+    }
+
+    @Override
+    public void blockSpawned(LetterBlock block, int col, int row) {
+        GameWindow.addBlock(block, col, row);
+    }
+
+    @Override
+    public void blockMoved(LetterBlock block, int col, int row) {
+        GameWindow.moveBlock(block, col, row);
+    }
+
+    @Override
+    public void blocksFell(List<GravityMove> moves) {
+        GameWindow.applyGravityMoves(moves);
+    }
+
+    @Override
+    public void cascadeResolved(CascadeResult result, Runnable onFinished) {
+        GameWindow.playCascade(result, onFinished);
+    }
+
+    @Override
+    public void scoreChanged(int score) {
+        GameWindow.updateScore(score);
+    }
+
+    @Override
+    public void boardCleared() {
+        GameWindow.clearBoardUI();
+    }
+
+    @Override
+    public void boardRestored(BoardSnapshot board) {
+        GameWindow.showBoard(board);
+    }
+
+    @Override
+    public void gameOver(int score) {
+        GameWindow.showGameOverOverlay(() -> {
+            GameLoop loop = gameLoop;
+            if (loop != null) loop.restart();
+        });
+    }
+}
@@ -1,9 +1,13 @@
 package com.textris.ui;
 
+import com.textris.model.BoardSnapshot;
+import com.textris.model.CascadeResult;
+import com.textris.model.GameLoop;
+import com.textris.model.GravityMove;
+import com.textris.model.LatencyHistogram;
 import com.textris.model.LetterBlock;
 import com.textris.storage.ScoreManager;
-import javafx.animation.FadeTransition;
-import javafx.animation.ParallelTransition;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
@@ -16,10 +20,8 @@ import javafx.scene.shape.Line;
 import javafx.scene.text.Font;
 import javafx.scene.text.Text;
 import javafx.stage.Stage;
-import javafx.util.Duration;
 import com.textris.media.Block;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,6 +31,12 @@ import java.util.List;
  * -Displays the grid 
  * -displays falling blocks, overlays, and score.
  * 
+ * The engine's LetterBlocks carry no graphics; the blocks are drawn by a
+ * BoardRenderer, chosen with -Dtextris.renderer, which is only touched on
+ * the FX thread. Every frame hands the renderer the board the game loop last
+ * published, and the time between frames is recorded so renderers can be
+ * compared.
+ *
  */
 public class GameWindow {
 
@@ -50,8 +58,8 @@ public class GameWindow {
     /** The current Scene displayed in the game window. */
     private static Scene scene;
 
-    /** The currently active block (next falling block). */
-    private static Block nextBlock = new Block('x');
+    /** The upcoming letters, next on top. */
+    private static VBox previewBox = new VBox(4);
 
     /** StackPane used to display overlays such as Game Over. */
     private static StackPane overlay = new StackPane();
@@ -59,9 +67,55 @@ public class GameWindow {
     /** Text node displaying the player’s score. */
     private static Text scoreText = new Text("Score: 0");
 
+    /** Text node displaying the seed of the current game, to replay it. */
+    private static Text seedText = new Text();
+
     /** Current score */
     private static int score = 0;
 
+    /** Draws the blocks on the board. FX thread only. */
+    private static BoardRenderer renderer = new NodeBoardRenderer();
+
+    /** The game whose published board is handed to the renderer. FX thread only. */
+    private static GameLoop gameLoop;
+
+    /** Logs the frame times at game over when -Dtextris.debug=true; otherwise read getFrameTimes(). */
+    private static final boolean DEBUG = Boolean.getBoolean("textris.debug");
+
+    /** The time between frames while the game window is shown. */
+    private static final LatencyHistogram frameTimes = new LatencyHistogram("frame time");
+
+    /** Paints the published board and records frameTimes on every pulse. */
+    private static final AnimationTimer frameTimer = new AnimationTimer() {
+        private long last;
+
+        @Override
+        public void handle(long now) {
+            if (last != 0) frameTimes.record(now - last);
+            last = now;
+
+            if (gameLoop != null) renderer.paint(gameLoop.getPublishedBoard());
+        }
+
+        @Override
+        public void start() {
+            last = 0;
+            super.start();
+        }
+    };
+
+    /**
+     * Sizes the game area for a board. Call before show.
+     *
+     * @param cols the number of board columns
+     * @param rows the number of board rows
+     */
+    public static void configure(int cols, int rows) {
+        XMAX = SIZE * cols;
+        YMAX = SIZE * rows;
+        MESH = new int[cols][rows];
+    }
+
     /**
      * Initializes and displays the main game window.
      *
@@ -69,6 +123,8 @@ public class GameWindow {
      */
     public static void show(Stage primaryStage) {
         pane.getChildren().clear();
+        renderer = BoardRenderer.fromProperties(XMAX / SIZE, YMAX / SIZE);
+        renderer.attach(pane);
         scoreText.setText("Score: 0"); // Reset score display each time a new game starts
 
         Line line = new Line(XMAX+4, 0, XMAX+4, YMAX);
@@ -82,6 +138,21 @@ public class GameWindow {
         scoreText.setLayoutY(60);
         pane.getChildren().add(scoreText);
 
+        seedText.setFont(Font.font("Arial", 12));
+        seedText.setFill(Color.GRAY);
+        seedText.setLayoutX(XMAX + 40);
+        seedText.setLayoutY(90);
+        seedText.setWrappingWidth(130);
+        pane.getChildren().add(seedText);
+
+        Text nextText = new Text("Next");
+        nextText.setFont(Font.font("Arial", 18));
+        nextText.setFill(Color.WHITE);
+        previewBox.getChildren().setAll(nextText);
+        previewBox.setLayoutX(XMAX + 40);
+        previewBox.setLayoutY(110);
+        pane.getChildren().add(previewBox);
+
         overlay.setPickOnBounds(false);
         overlay.setVisible(false);
 
@@ -91,56 +162,76 @@ public class GameWindow {
         primaryStage.setScene(scene);
         primaryStage.setTitle("Textris - Game Window");
         primaryStage.show();
-    }
 
+        frameTimes.reset();
+        frameTimer.start();
+    }
 
     /**
-     * Returns the current JavaFX Scene associated with the GameWindow.
+     * Sets the game whose published board is painted each frame. Call on the
+     * FX thread after show.
      *
-     * @return the active game Scene
+     * @param loop the game loop
      */
-    public static Scene getScene() {
-        return scene;
+    public static void setGameLoop(GameLoop loop) {
+        gameLoop = loop;
     }
 
     /**
-     * Returns the currently active Block.
+     * Returns the time between frames since the game window was shown.
      *
-     * @return the active Block
+     * @return the frame time histogram
      */
-    public static Block getActiveBlock() {
-        return nextBlock;
+    public static LatencyHistogram getFrameTimes() {
+        return frameTimes;
     }
 
     /**
-     * Adds a new LetterBlock’s node to the visual game board.
+     * Returns the name of the renderer drawing the board.
      *
-     * @param letterBlock the block to add to the UI
+     * @return "nodes" or "canvas"
      */
-    public static void addBlock(LetterBlock letterBlock) {
-        if (letterBlock == null || letterBlock.getBlock() == null) return;
-
-        var blockNode = letterBlock.getBlock().getBlock();
+    public static String getRendererName() {
+        return renderer.getName();
+    }
 
-        blockNode.setLayoutX(letterBlock.getCol() * SIZE);
-        blockNode.setLayoutY(letterBlock.getRow() * SIZE);
 
-        Platform.runLater(() -> pane.getChildren().add(blockNode));
+    /**
+     * Returns the current JavaFX Scene associated with the GameWindow.
+     *
+     * @return the active game Scene
+     */
+    public static Scene getScene() {
+        return scene;
     }
 
     /**
-     * Removes a visual block node from the board if present.
+     * Adds a new LetterBlock to the visual game board.
      *
-     * @param node the StackPane node representing the block
+     * @param letterBlock the block to add to the UI
+     * @param col the column to show it in
+     * @param row the row to show it in
      */
-    public static void removeBlockNode(StackPane node) {
+    public static void addBlock(LetterBlock letterBlock, int col, int row) {
+        if (letterBlock == null) return;
+
         Platform.runLater(() -> {
-            if (node != null && pane.getChildren().contains(node)) {
-                pane.getChildren().remove(node);
-            }
+            renderer.addBlock(letterBlock, col, row);
+            StartupOrchestrator.markFirstPlayableFrame();
         });
     }
 
+    /**
+     * Moves a LetterBlock to a board position.
+     *
+     * @param letterBlock the block that moved
+     * @param col its new column
+     * @param row its new row
+     */
+    public static void moveBlock(LetterBlock letterBlock, int col, int row) {
+        Platform.runLater(() -> renderer.moveBlock(letterBlock, col, row));
+    }
+
     /**
      * Forces a UI refresh for the game pane layout.
      */
@@ -153,11 +244,28 @@ public class GameWindow {
      */
     public static void clearBoardUI() {
         Platform.runLater(() -> {
-            pane.getChildren().removeIf(node -> node instanceof StackPane);
+            renderer.clear();
             refreshBoard();
         });
     }
 
+    /**
+     * Redraws every block from a board, after an undo took blocks away.
+     *
+     * @param board the board to show
+     */
+    public static void showBoard(BoardSnapshot board) {
+        Platform.runLater(() -> {
+            renderer.clear();
+            for (int col = 0; col < board.getColCount(); col++) {
+                for (int row = 0; row < board.getRowCount(); row++) {
+                    LetterBlock block = board.getBlock(col, row);
+                    if (block != null) renderer.addBlock(block, col, row);
+                }
+            }
+        });
+    }
+
     /**
      * Updates the on-screen score display.
      *
@@ -168,6 +276,31 @@ public class GameWindow {
         score = newScore;
     }
 
+    /**
+     * Shows the seed of the current game; run with -Dtextris.seed set to it
+     * to replay the game.
+     *
+     * @param seed the game's seed
+     */
+    public static void showSeed(long seed) {
+        Platform.runLater(() -> seedText.setText("Seed: " + seed));
+    }
+
+    /**
+     * Shows the upcoming letters in the side panel.
+     *
+     * @param letters the upcoming letters, next first
+     */
+    public static void showPreview(String letters) {
+        Platform.runLater(() -> {
+            var children = previewBox.getChildren();
+            children.remove(1, children.size());
+            for (int i = 0; i < letters.length(); i++) {
+                children.add(new Block(letters.charAt(i)).getBlock());
+            }
+        });
+    }
+
     /**
      * Displays a Game Over overlay containing buttons for restarting the game
      * or returning to the main menu.
@@ -176,6 +309,9 @@ public class GameWindow {
      */
     public static void showGameOverOverlay(Runnable onRestart) {
         Platform.runLater(() -> {
+            frameTimer.stop();
+            if (DEBUG) System.out.println("Renderer " + renderer.getName() + ", " + frameTimes);
+
             overlay.getChildren().clear();
             overlay.setStyle("-fx-background-color: rgba(0, 0, 0, 0.7);");
             overlay.setVisible(true);
@@ -321,57 +457,24 @@ public class GameWindow {
         });
     }
     
-    /** 
-     * Returns the visual StackPane at a board position (or null). 
-     * 
-     * @param col the column to return the StackPane for
-     * @param row the row to return the StackPane for
-     * @return the StackPane itself
+    /**
+     * Moves the blocks that fell to their new rows, all in one FX update.
+     *
+     * @param moves the moves produced by one gravity pass
      */
-    public static StackPane getNodeAt(int col, int row) {
-        double x = col * SIZE;
-        double y = row * SIZE;
-
-        for (var node : pane.getChildren()) {
-            if (node instanceof StackPane sp) {
-                if (Math.abs(sp.getLayoutX() - x) < 1 &&
-                    Math.abs(sp.getLayoutY() - y) < 1) {
-                    return sp;
-                }
-            }
-        }
-        return null;
+    public static void applyGravityMoves(List<GravityMove> moves) {
+        Platform.runLater(() -> renderer.placeFallen(moves));
     }
 
     /**
-     * Plays a fade-out animation for cleared blocks and calls onFinished when done.
+     * Replays a resolved cascade: each wave flashes its cleared blocks, removes
+     * them and drops the fallen blocks to their new rows. The model is already
+     * up to date, so the whole chain is built on the FX thread in one go.
      *
-     * @param nodes list of StackPane block nodes to animate
-     * @param onFinished callback invoked when the animation completes
+     * @param result the cascade to animate
+     * @param onFinished callback invoked when the last wave has played
      */
-    public static void playClearAnimation(List<StackPane> nodes, Runnable onFinished) {
-        Platform.runLater(() -> {
-            List<FadeTransition> fades = new ArrayList<>();
-
-            for (StackPane node : nodes) {
-                FadeTransition ft = new FadeTransition(Duration.millis(300), node);
-                ft.setFromValue(1.0);
-                ft.setToValue(0.0);
-                fades.add(ft);
-            }
-
-            ParallelTransition pt = new ParallelTransition();
-            pt.getChildren().addAll(fades);
-
-            pt.setOnFinished(e -> {
-                for (StackPane node : nodes) {
-                    pane.getChildren().remove(node);
-                }
-
-                if (onFinished != null) onFinished.run();
-            });
-
-            pt.play();
-        });
+    public static void playCascade(CascadeResult result, Runnable onFinished) {
+        Platform.runLater(() -> renderer.playCascade(result, onFinished));
     }
 }
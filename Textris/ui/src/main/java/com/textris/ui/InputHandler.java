@@ -0,0 +1,74 @@
+package com.textris.ui;
+
+import com.textris.model.GameCommand;
+import com.textris.model.GameLoop;
+import javafx.scene.Scene;
+import javafx.scene.input.KeyCode;
+
+/**
+ * This class takes user input the move a LetterBlock on the GameBoard.
+ *
+ * Keys are turned into GameCommands and submitted to the GameLoop, which moves
+ * the block on the game thread; the FX thread never touches the board.
+ *
+ * Responsibilities:
+ * - Read user input using arrow keys, space for a hard drop and Z for undo
+ * - Submit a GameCommand for the key pressed
+ *
+ * Collaborators:
+ * - GameLoop
+ */
+public class InputHandler 
+{
+    private final GameLoop gameLoop;
+
+    /**
+     * Creates a new InputHandler that listens for keyboard input.
+     *
+     * @param scene the JavaFX scene to attach key listeners to
+     * @param gameLoop the GameLoop that key presses are submitted to
+     */
+    public InputHandler(Scene scene, GameLoop gameLoop)
+    {
+        this.gameLoop = gameLoop;
+        initializeKeyListeners(scene);
+    }
+
+    /**
+     * Initializes key listeners on the given scene.
+     *   Left Arrow — move block left
+     *   Right Arrow — move block right
+     *   Down Arrow — move block down
+     *   Space — drop block straight to where it lands
+     *   Z — take back the last block that landed
+     *
+     * @param scene the JavaFX scene to attach listeners to
+     */
+    private void initializeKeyListeners(Scene scene) {
+        scene.setOnKeyPressed(event ->
+        {
+            KeyCode key = event.getCode();
+
+            switch (key) {
+                case LEFT:
+                    gameLoop.submit(GameCommand.MOVE_LEFT);
+                    break;
+                case RIGHT:
+                    gameLoop.submit(GameCommand.MOVE_RIGHT);
+                    break;
+                case DOWN:
+                    gameLoop.submit(GameCommand.MOVE_DOWN);
+                    break;
+                case SPACE:
+                    gameLoop.submit(GameCommand.HARD_DROP);
+                    break;
+                case Z:
+                    gameLoop.submit(GameCommand.UNDO);
+                    break;
+                default:
+                    // Ignore other keys
+                    break;
+            }
+        });
+    }
+}
@@ -4,11 +4,11 @@ import com.textris.model.Dictionary;
 import com.textris.model.GameBoard;
 import com.textris.model.GameLoop;
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.geometry.Pos;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.effect.DropShadow;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
 import javafx.scene.paint.Color;
@@ -52,9 +52,11 @@ public class MainMenuUI extends Application {
     public void start(Stage stage) {
         primaryStage = stage;
 
-        // Load logo image from resources
-        Image logo = new Image(getClass().getResourceAsStream("/images/textris_logo.png"));
-        ImageView logoView = new ImageView(logo);
+        StartupOrchestrator startup = StartupOrchestrator.begin();
+
+        // Logo image is loaded in the background; show it as soon as it is ready
+        ImageView logoView = new ImageView();
+        startup.getLogo().thenAccept(logo -> Platform.runLater(() -> logoView.setImage(logo)));
         logoView.setFitWidth(250);
         logoView.setPreserveRatio(true);
 
@@ -78,15 +80,28 @@ public class MainMenuUI extends Application {
         setButtonStyle(scoreboardButton, "#2196F3"); // Blue
         setButtonStyle(exitButton, "#F44336"); // Red
 
+        // Start stays disabled until the dictionary and letter weights have loaded
+        startButton.setDisable(!startup.servicesReady().isDone());
+        startup.servicesReady().thenRun(() -> Platform.runLater(() -> startButton.setDisable(false)));
+
         // Set button event handlers
         startButton.setOnAction(e -> {
+            StartupOrchestrator.markStartPressed();
+
+            // Board size can be changed with -Dtextris.boardCols and -Dtextris.boardRows
+            int cols = Integer.getInteger("textris.boardCols", GameBoard.DEFAULT_COLS);
+            int rows = Integer.getInteger("textris.boardRows", GameBoard.DEFAULT_ROWS);
+            GameWindow.configure(cols, rows);
             GameWindow.show(primaryStage);
 
-            //Initialize the game loop
-            GameBoard gameBoard = new GameBoard();
-            InputHandler inputHandler = new InputHandler(GameWindow.getScene(), gameBoard);
-            Dictionary dictionary = new Dictionary();
-            GameLoop gameLoop = new GameLoop(inputHandler, gameBoard, dictionary);
+            //Initialize the game loop with the services loaded at startup
+            Dictionary dictionary = startup.getDictionary();
+            GameBoard gameBoard = new GameBoard(dictionary, cols, rows);
+            FxGameListener listener = new FxGameListener();
+            GameLoop gameLoop = GameLoop.create(gameBoard, dictionary, listener);
+            listener.setGameLoop(gameLoop);
+            GameWindow.setGameLoop(gameLoop);
+            new InputHandler(GameWindow.getScene(), gameLoop);
             gameLoop.start();
 
         });
@@ -162,6 +177,7 @@ public class MainMenuUI extends Application {
             "• Form words using falling letter blocks.\n" +
             "• Use left/right arrow keys to move the blocks.\n" +
             "• Words are cleared automatically once valid.\n" +
+            "• Press Z to take back a block that cleared no word.\n" +
             "• Each letter block cleared is worth 10 points.\n\n" +
             "Try to keep the grid from filling up — the game ends when it does!"
         );
@@ -0,0 +1,114 @@
+package com.textris.ui;
+
+import com.textris.media.Block;
+import com.textris.model.CascadeResult;
+import com.textris.model.GravityMove;
+import com.textris.model.LetterBlock;
+import javafx.animation.FadeTransition;
+import javafx.animation.ParallelTransition;
+import javafx.animation.PauseTransition;
+import javafx.animation.SequentialTransition;
+import javafx.scene.layout.Pane;
+import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Draws every block as its own Block node in the game pane.
+ *
+ * The engine's LetterBlocks carry no graphics; the renderer keeps a Block
+ * sprite for each one it has been told about and moves its node.
+ *
+ * Responsibilities:
+ * - Creates, moves and removes a sprite per block
+ * - Animates cascades with fade transitions
+ *
+ * Collaborators:
+ * - Block
+ * - GameWindow
+ */
+public class NodeBoardRenderer implements BoardRenderer {
+
+    private final Map<LetterBlock, Block> sprites = new IdentityHashMap<>();
+    private Pane pane;
+
+    @Override
+    public String getName() {
+        return "nodes";
+    }
+
+    @Override
+    public void attach(Pane pane) {
+        this.pane = pane;
+    }
+
+    @Override
+    public void addBlock(LetterBlock block, int col, int row) {
+        Block sprite = new Block(block.getLetter());
+        sprites.put(block, sprite);
+
+        var blockNode = sprite.getBlock();
+        blockNode.setLayoutX(col * GameWindow.SIZE);
+        blockNode.setLayoutY(row * GameWindow.SIZE);
+        pane.getChildren().add(blockNode);
+    }
+
+    @Override
+    public void moveBlock(LetterBlock block, int col, int row) {
+        Block sprite = sprites.get(block);
+        if (sprite == null) return;
+        sprite.getBlock().setLayoutX(col * GameWindow.SIZE);
+        sprite.getBlock().setLayoutY(row * GameWindow.SIZE);
+    }
+
+    @Override
+    public void placeFallen(List<GravityMove> moves) {
+        for (GravityMove move : moves) {
+            Block sprite = sprites.get(move.block);
+            if (sprite != null) sprite.getBlock().setLayoutY(move.toRow * GameWindow.SIZE);
+        }
+    }
+
+    @Override
+    public void playCascade(CascadeResult result, Runnable onFinished) {
+        SequentialTransition chain = new SequentialTransition();
+
+        for (CascadeResult.Wave wave : result.getWaves()) {
+            ParallelTransition flash = new ParallelTransition();
+            for (LetterBlock block : wave.cleared) {
+                Block sprite = sprites.get(block);
+                if (sprite == null) continue;
+                FadeTransition ft = new FadeTransition(Duration.millis(200), sprite.getBlock());
+                ft.setFromValue(1.0);
+                ft.setToValue(0.2);
+                ft.setAutoReverse(true);
+                ft.setCycleCount(2);
+                flash.getChildren().add(ft);
+            }
+
+            flash.setOnFinished(e -> {
+                for (LetterBlock block : wave.cleared) {
+                    Block sprite = sprites.remove(block);
+                    if (sprite != null) pane.getChildren().remove(sprite.getBlock());
+                }
+                placeFallen(wave.fallen);
+            });
+
+            chain.getChildren().addAll(flash, new PauseTransition(Duration.millis(250)));
+        }
+
+        chain.setOnFinished(e -> {
+            if (onFinished != null) onFinished.run();
+        });
+        chain.play();
+    }
+
+    @Override
+    public void clear() {
+        pane.getChildren().removeIf(node -> node instanceof StackPane);
+        sprites.clear();
+    }
+}
@@ -0,0 +1,162 @@
+package com.textris.ui;
+
+import com.textris.model.Dictionary;
+import com.textris.storage.LetterWeights;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import javafx.scene.image.Image;
+
+/**
+ * Loads the game's shared services in the background while the menu renders.
+ *
+ * The dictionary, the letter weights and the menu logo are loaded in parallel
+ * as soon as the application starts. Setting -Dtextris.language picks a
+ * registered language instead of the default word list. The Start button then receives services
+ * that are already initialized instead of building them on the FX thread.
+ * Each step is timed and logged, along with the time from launch to the first
+ * playable frame.
+ *
+ * Responsibilities:
+ * - Starts loading the dictionary, letter weights and logo in parallel
+ * - Hands the same initialized services to every game that is started
+ * - Logs load timings and time to first playable frame
+ *
+ * Collaborators:
+ * - MainMenuUI
+ * - GameWindow
+ * - Dictionary
+ * - LetterWeights
+ */
+public class StartupOrchestrator {
+
+    /** Time the orchestrator was first touched, used as the launch time. */
+    private static final long LAUNCH_NANOS = System.nanoTime();
+
+    private static StartupOrchestrator instance;
+
+    private static final AtomicBoolean firstFrameLogged = new AtomicBoolean(false);
+    private static volatile long startPressedNanos = 0;
+
+    private final CompletableFuture<Dictionary> dictionary;
+    private final CompletableFuture<Void> letterWeights;
+    private final CompletableFuture<Image> logo;
+    private final CompletableFuture<Void> services;
+
+    private StartupOrchestrator() {
+        ExecutorService executor = Executors.newFixedThreadPool(3, runnable -> {
+            Thread thread = new Thread(runnable, "textris-startup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        dictionary = CompletableFuture.supplyAsync(timed("Dictionary", StartupOrchestrator::loadDictionary), executor);
+        letterWeights = CompletableFuture.supplyAsync(timed("Letter weights", () -> {
+            LetterWeights.preload();
+            return null;
+        }), executor);
+        logo = CompletableFuture.supplyAsync(timed("Logo image",
+                () -> new Image(StartupOrchestrator.class.getResourceAsStream("/images/textris_logo.png"))), executor);
+
+        services = CompletableFuture.allOf(dictionary, letterWeights)
+                .whenComplete((ignored, error) -> {
+                    executor.shutdown();
+                    if (error != null) {
+                        System.out.println("Startup failed:");
+                        error.printStackTrace();
+                    } else {
+                        System.out.println("Game services ready after " + sinceLaunch() + " ms");
+                    }
+                });
+    }
+
+    /**
+     * Starts loading the shared services, or returns the loader that already did.
+     *
+     * @return the startup orchestrator
+     */
+    public static synchronized StartupOrchestrator begin() {
+        if (instance == null) {
+            instance = new StartupOrchestrator();
+        }
+        return instance;
+    }
+
+    /**
+     * Returns a future that completes once the services a game needs are loaded.
+     *
+     * @return the future for the game services
+     */
+    public CompletableFuture<Void> servicesReady() {
+        return services;
+    }
+
+    /**
+     * Returns a future for the menu logo.
+     *
+     * @return the future for the logo image
+     */
+    public CompletableFuture<Image> getLogo() {
+        return logo;
+    }
+
+    /**
+     * Returns the shared dictionary, waiting for it if it is still loading.
+     *
+     * @return the shared dictionary
+     */
+    public Dictionary getDictionary() {
+        return dictionary.join();
+    }
+
+    /**
+     * Records that the player pressed Start, so the first frame can be timed from it.
+     */
+    public static void markStartPressed() {
+        startPressedNanos = System.nanoTime();
+        firstFrameLogged.set(false);
+    }
+
+    /**
+     * Logs the time to the first playable frame. Only the first call after
+     * Start is pressed is logged.
+     */
+    public static void markFirstPlayableFrame() {
+        if (startPressedNanos == 0 || !firstFrameLogged.compareAndSet(false, true)) return;
+
+        long fromStart = (System.nanoTime() - startPressedNanos) / 1_000_000;
+        System.out.println("First playable frame: " + sinceLaunch() + " ms after launch, "
+                + fromStart + " ms after Start");
+    }
+
+    /**
+     * Loads the default word list, or the language named by -Dtextris.language
+     * together with its letter weights. Either way the word scanner is built
+     * here on the startup thread, so the first board scan of a game does not
+     * wait for it.
+     */
+    private static Dictionary loadDictionary() {
+        String language = System.getProperty("textris.language");
+        if (language == null) return new Dictionary();
+
+        Dictionary dictionary = new Dictionary(language);
+        LetterWeights.setTable(dictionary.getLetterTable());
+        return dictionary;
+    }
+
+    private static long sinceLaunch() {
+        return (System.nanoTime() - LAUNCH_NANOS) / 1_000_000;
+    }
+
+    private static <T> Supplier<T> timed(String name, Supplier<T> task) {
+        return () -> {
+            long start = System.nanoTime();
+            T result = task.get();
+            System.out.println(name + " loaded in " + (System.nanoTime() - start) / 1_000_000
+                    + " ms on " + Thread.currentThread().getName());
+            return result;
+        };
+    }
+}